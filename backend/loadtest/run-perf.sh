@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# 오프라인 부하 테스트 한 번에 실행: 외부 API 스텁 -> 앱 (perf 프로파일) -> k6 워크로드 -> 종료
+# 필요: JDK 21, k6. 네트워크/Oracle/API 키 없이 한 대에서 실행된다.
+#
+#   loadtest/run-perf.sh                        기본 워크로드
+#   RATE=300 DURATION=5m loadtest/run-perf.sh   k6 환경 변수 그대로 전달
+#   GEMINI_LATENCY_MS=4000 FOOD_ERROR_RATE=0.05 loadtest/run-perf.sh   스텁 지연/오류 주입
+#   VIRTUAL_THREADS=true loadtest/run-perf.sh   앱 설정도 환경 변수로 전달
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-3001}
+OUT=build/perf
+mkdir -p "$OUT"
+
+# 이 스크립트가 띄운 앱만 종료 (같은 호스트의 다른 인스턴스는 건드리지 않음)
+cleanup() {
+  [[ -n "${APP_PID:-}" ]] && kill -- "-$APP_PID" 2>/dev/null || true
+  [[ -n "${STUB_PID:-}" ]] && kill "$STUB_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+java loadtest/stubs/UpstreamStub.java > "$OUT/stub.log" 2>&1 &
+STUB_PID=$!
+
+# 앱 JVM 이 Gradle 데몬이 아니라 이 프로세스 아래에서 뜨도록 --no-daemon,
+# set -m 으로 별도 프로세스 그룹에서 실행해서 종료 시 그룹 (sh -> gradle -> 앱 JVM) 전체에 신호
+set -m
+sh ./gradlew -q --no-daemon bootRunPerf > "$OUT/app.log" 2>&1 &
+APP_PID=$!
+set +m
+
+echo "waiting for app (logs: $OUT/app.log)"
+for _ in $(seq 1 180); do
+  if curl -sf "http://127.0.0.1:${MANAGEMENT_PORT}/actuator/health" > /dev/null; then
+    break
+  fi
+  sleep 1
+done
+curl -sf "http://127.0.0.1:${MANAGEMENT_PORT}/actuator/health" > /dev/null || { echo "app did not start"; exit 1; }
+
+k6 run \
+  -e RATE="${RATE:-100}" -e DURATION="${DURATION:-2m}" -e USERS="${USERS:-100}" \
+  loadtest/workload.js "$@"
+
+# 서버 쪽 지표 (service.method / http.client.requests / jvm / hikari) 와 스텁 집계 보관
+curl -s "http://127.0.0.1:${MANAGEMENT_PORT}/actuator/prometheus" > "$OUT/prometheus.txt" || true
+curl -s "http://127.0.0.1:${STUB_PORT:-8089}/__stats" > "$OUT/stub-stats.txt" || true
+echo "server metrics: $OUT/prometheus.txt, stub stats: $OUT/stub-stats.txt"
@@ -0,0 +1,116 @@
+#!/usr/bin/env bash
+# 모드별 기동 시간 / 첫 요청까지 시간 측정 (perf 프로파일: H2 메모리 DB, 네트워크/Oracle/API 키 없이 한 대에서 실행)
+# 필요: JDK 21 (PATH 의 java 가 Gradle 툴체인과 같은 JDK 여야 CDS 아카이브가 맞음), native 모드는 GraalVM JDK 21
+#
+#   loadtest/startup-bench.sh                       baseline jvm cds aot aot-cds 를 각 RUNS 회
+#   RUNS=10 loadtest/startup-bench.sh jvm cds       일부 모드만
+#   loadtest/startup-bench.sh native                네이티브 이미지 (빌드에 수 분 걸림)
+#
+# 모드
+#   baseline : perf 프로파일만 (springdoc/dotenv 기본값), 풀린 jar
+#   jvm      : faststart,perf 프로파일 (springdoc/dotenv 끔)
+#   cds      : jvm + AppCDS 아카이브
+#   aot      : jvm + Spring AOT
+#   aot-cds  : aot + AppCDS 아카이브 (AOT 코드까지 포함해 학습)
+#   native   : GraalVM 네이티브 이미지
+# 지표
+#   started       로그의 "Started HealthCareApplication in X seconds" (스프링 기동)
+#   process       같은 줄의 "process running for Y" (JVM 기동 포함)
+#   first_request 프로세스 시작부터 앱 포트의 첫 응답 (GET /ranking) 까지 wall clock
+# 주의: 모든 모드가 ddl-auto: create 로 뜸. perf 프로파일이 뒤에 와서 faststart 의 validate 를 덮어씀
+#       (빈 H2 라 validate 하면 기동 실패). validate 와 update 의 차이는 여기서 측정되지 않으며 스키마가 있는 Oracle 에서만 드러남
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+APP_PORT=3000
+PROFILES=faststart,perf
+MODES=("$@")
+[[ ${#MODES[@]} -gt 0 ]] || MODES=(baseline jvm cds aot aot-cds)
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+OUT=build/perf
+STAMP=$(date +%Y%m%d-%H%M%S)
+RESULT="$OUT/startup-$STAMP.txt"
+mkdir -p "$OUT"
+
+APP_PID=
+cleanup() {
+  [[ -n "$APP_PID" ]] && kill "$APP_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+now_ms() { date +%s%3N; }
+
+classpath() { # $1 = jvm | aot
+  local cp="$PWD/build/startup/$1/app/app.jar" jar
+  for jar in $(ls "$PWD"/build/startup/perf-lib/*.jar | sort); do
+    cp="$cp:$jar"
+  done
+  echo "$cp"
+}
+
+build() {
+  case "$1" in
+    baseline|jvm|cds) sh ./gradlew -q cdsArchive -Pprofiles=$PROFILES ;;
+    aot|aot-cds)      sh ./gradlew -q cdsArchive -Paot -Pprofiles=$PROFILES ;;
+    native)           sh ./gradlew -q nativeCompile -Pnative -Pprofiles=$PROFILES ;;
+  esac
+}
+
+command_for() {
+  local main=com.example.health_care.HealthCareApplication
+  case "$1" in
+    baseline) echo "$JAVA -cp $(classpath jvm) -Dspring.profiles.active=perf $main" ;;
+    jvm)      echo "$JAVA -cp $(classpath jvm) -Dspring.profiles.active=$PROFILES $main" ;;
+    cds)      echo "$JAVA -XX:SharedArchiveFile=build/startup/jvm/app.jsa -cp $(classpath jvm) -Dspring.profiles.active=$PROFILES $main" ;;
+    aot)      echo "$JAVA -cp $(classpath aot) -Dspring.aot.enabled=true -Dspring.profiles.active=$PROFILES $main" ;;
+    aot-cds)  echo "$JAVA -XX:SharedArchiveFile=build/startup/aot/app.jsa -cp $(classpath aot) -Dspring.aot.enabled=true -Dspring.profiles.active=$PROFILES $main" ;;
+    native)   echo "build/native/nativeCompile/health_care -Dspring.profiles.active=$PROFILES" ;;
+  esac
+}
+
+# 한 번 실행: SAMPLE 에 "started process first_request" (초)
+run_once() {
+  local mode=$1 log="$OUT/startup-$STAMP-$1.log" start code elapsed line
+  start=$(now_ms)
+  $(command_for "$mode") > "$log" 2>&1 &
+  APP_PID=$!
+  code=000
+  while [[ "$code" == 000 ]]; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "$mode: app exited (log: $log)" >&2; exit 1; }
+    (( $(now_ms) - start < 180000 )) || { echo "$mode: no response in 180s (log: $log)" >&2; exit 1; }
+    sleep 0.02
+    code=$(curl -s -o /dev/null -w '%{http_code}' "http://127.0.0.1:$APP_PORT/ranking" || true)
+  done
+  elapsed=$(( $(now_ms) - start ))
+  line=$(grep -o 'Started HealthCareApplication in [0-9.]* seconds (process running for [0-9.]*)' "$log" || true)
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=
+  if [[ "$mode" == cds || "$mode" == aot-cds ]] && grep -q 'shared archive file' "$log"; then
+    echo "$mode: CDS archive was not used, check $log" >&2
+  fi
+  SAMPLE=$(awk -v l="$line" -v e="$elapsed" 'BEGIN {
+    n = split(l, w, " "); s = w[4]; p = w[n]; sub(/\)$/, "", p)
+    printf "%s %s %.3f", (s == "" ? "-" : s), (p == "" ? "-" : p), e / 1000 }')
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2) }'; }
+
+echo "note: ddl-auto is 'create' in every mode (perf overrides faststart's validate), schema validation is not measured" \
+  | tee "$RESULT"
+printf '%-9s %5s %10s %10s %14s\n' mode runs started process first_request | tee -a "$RESULT"
+for mode in "${MODES[@]}"; do
+  echo "building $mode" >&2
+  build "$mode"
+  samples=()
+  for _ in $(seq 1 "$RUNS"); do
+    run_once "$mode"
+    samples+=("$SAMPLE")
+  done
+  printf '%-9s %5s %10s %10s %14s\n' "$mode" "$RUNS" \
+    "$(printf '%s\n' "${samples[@]}" | awk '{ print $1 }' | median)" \
+    "$(printf '%s\n' "${samples[@]}" | awk '{ print $2 }' | median)" \
+    "$(printf '%s\n' "${samples[@]}" | awk '{ print $3 }' | median)" | tee -a "$RESULT"
+done
+echo "median seconds, saved to $RESULT (app logs: $OUT/startup-$STAMP-<mode>.log)"
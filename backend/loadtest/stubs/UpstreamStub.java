@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 오프라인 부하 테스트용 외부 API 스텁 (JDK 21 만 필요, 의존성 없음).
+ *
+ *   java loadtest/stubs/UpstreamStub.java
+ *
+ * perf 프로파일의 nutri / gemini / youtube base-url 이 이 서버를 가리킨다.
+ * responses/ 의 녹화 응답을 돌려주고, 업스트림별로 지연/오류/무응답을 주입한다.
+ *
+ * 환경 변수 (UPSTREAM = FOOD | GEMINI | YOUTUBE, 업스트림별 값이 없으면 STUB_* 기본값)
+ *   STUB_PORT              기본 8089
+ *   {UPSTREAM}_LATENCY_MS  응답 지연 (기본 FOOD 150, GEMINI 1500, YOUTUBE 200)
+ *   STUB_JITTER_MS         지연에 더할 0~N ms 난수 (기본 50)
+ *   {UPSTREAM}_ERROR_RATE  / STUB_ERROR_RATE   오류 응답 비율 0.0~1.0 (기본 0)
+ *   STUB_ERROR_STATUS      오류 응답 HTTP 상태 (기본 503)
+ *   {UPSTREAM}_HANG_RATE   / STUB_HANG_RATE    응답 없이 STUB_HANG_MS (기본 30000) 대기하는 비율 (타임아웃 확인용)
+ *
+ * GET /__stats 로 업스트림별 요청/오류/무응답 건수를 확인할 수 있다.
+ */
+public class UpstreamStub {
+
+    private static final Path RESPONSES = Path.of(System.getProperty("stub.responses", "loadtest/stubs/responses"));
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    record Upstream(String name, String file, long latencyMs, double errorRate, double hangRate) {
+        static Upstream of(String name, String file, long defaultLatencyMs) {
+            return new Upstream(name, file,
+                    Long.parseLong(env(name + "_LATENCY_MS", String.valueOf(defaultLatencyMs))),
+                    Double.parseDouble(env(name + "_ERROR_RATE", env("STUB_ERROR_RATE", "0"))),
+                    Double.parseDouble(env(name + "_HANG_RATE", env("STUB_HANG_RATE", "0"))));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(env("STUB_PORT", "8089"));
+        long jitterMs = Long.parseLong(env("STUB_JITTER_MS", "50"));
+        int errorStatus = Integer.parseInt(env("STUB_ERROR_STATUS", "503"));
+        long hangMs = Long.parseLong(env("STUB_HANG_MS", "30000"));
+
+        Upstream food = Upstream.of("FOOD", "food.json", 150);
+        Upstream gemini = Upstream.of("GEMINI", "gemini.json", 1500);
+        Upstream youtube = Upstream.of("YOUTUBE", "youtube.json", 200);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        // 지연은 Thread.sleep 이라 요청마다 가상 스레드 1개
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath();
+                Upstream upstream;
+                if (path.startsWith("/__stats")) {
+                    StringBuilder sb = new StringBuilder();
+                    COUNTERS.forEach((k, v) -> sb.append(k).append(' ').append(v.sum()).append('\n'));
+                    send(exchange, 200, "text/plain", sb.toString());
+                    return;
+                } else if (path.contains("nutri_info")) {
+                    upstream = food;
+                } else if (path.contains(":generateContent")) {
+                    upstream = gemini;
+                } else if (path.startsWith("/youtube/")) {
+                    upstream = youtube;
+                } else {
+                    send(exchange, 404, "application/json", "{\"error\":\"no stub for " + path + "\"}");
+                    return;
+                }
+                drain(exchange.getRequestBody()); // Gemini 요청 본문(이미지) 소비
+                count(upstream.name() + ".requests");
+
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (random.nextDouble() < upstream.hangRate()) {
+                    count(upstream.name() + ".hangs");
+                    sleep(hangMs);
+                    return; // 응답 없이 연결 종료
+                }
+                sleep(upstream.latencyMs() + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0));
+                if (random.nextDouble() < upstream.errorRate()) {
+                    count(upstream.name() + ".errors");
+                    send(exchange, errorStatus, "application/json", "{\"error\":\"injected\"}");
+                    return;
+                }
+                String body = Files.readString(RESPONSES.resolve(upstream.file()), StandardCharsets.UTF_8)
+                        .replace("{{q}}", jsonEscape(queryParam(exchange, upstream == food ? "foodNm" : "q")));
+                send(exchange, 200, "application/json;charset=UTF-8", body);
+            } catch (Exception e) {
+                count("stub.failures");
+            }
+        });
+        server.start();
+        System.out.printf("upstream stub on :%d (food %dms, gemini %dms, youtube %dms, jitter %dms)%n",
+                port, food.latencyMs(), gemini.latencyMs(), youtube.latencyMs(), jitterMs);
+    }
+
+    private static String env(String key, String fallback) {
+        String value = System.getenv(key);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+
+    private static void count(String key) {
+        COUNTERS.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static void sleep(long ms) throws InterruptedException {
+        if (ms > 0) {
+            Thread.sleep(ms);
+        }
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        in.transferTo(OutputStream.nullOutputStream());
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return "";
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                // 공공데이터 클라이언트는 이미 인코딩한 값을 한 번 더 넣으므로 두 번까지 디코딩
+                String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                return value.contains("%") ? URLDecoder.decode(value, StandardCharsets.UTF_8) : value;
+            }
+        }
+        return "";
+    }
+
+    private static String jsonEscape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+// 플랫폼 스레드 vs 가상 스레드 비교 부하 테스트 (k6)
+//
+// 같은 DB/데이터로 서버를 두 번 띄워 각각 실행하고 결과를 비교한다.
+//   1) VIRTUAL_THREADS=false ./gradlew bootRun   ->  k6 run -e MODE=platform loadtest/threads-compare.js
+//   2) VIRTUAL_THREADS=true  ./gradlew bootRun   ->  k6 run -e MODE=virtual  loadtest/threads-compare.js
+//
+// 비교 지표
+//   - 처리량/지연: k6 요약의 http_reqs, http_req_duration (p95, p99), 실패율
+//   - 서버 메모리/스레드: 테스트 중 management 포트에서 스크레이프
+//       curl -s localhost:3001/actuator/prometheus | grep -E '^(jvm_threads_live|jvm_memory_used_bytes|hikaricp_connections_pending)'
+//   - 가상 스레드 고정(pinning): -Djdk.tracePinnedThreads=short 로 띄우면 carrier 를 잡은 스택이 stdout 에 찍힘
+//
+// 환경 변수
+//   BASE_URL (기본 http://localhost:3000), VUS (기본 1200), DURATION (기본 3m),
+//   USERS    테스트 계정 수 (기본 50, 없으면 setup 에서 가입),
+//   UPSTREAM=1 이면 외부 API(공공데이터 식품 검색) 호출도 섞음 (쿼터 주의, 기본 끔)
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE = __ENV.BASE_URL || 'http://localhost:3000';
+const VUS = Number(__ENV.VUS || 1200);
+const USERS = Number(__ENV.USERS || 50);
+const UPSTREAM = __ENV.UPSTREAM === '1';
+const MODE = __ENV.MODE || 'unknown';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: __ENV.DURATION || '3m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  tags: { mode: MODE },
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+// 테스트 계정 준비 + 로그인 (BCrypt 비용은 setup 에서 한 번만)
+export function setup() {
+  const tokens = [];
+  for (let i = 0; i < USERS; i++) {
+    const id = `loadtest-${i}@test.com`;
+    const password = 'loadtest-password';
+    http.post(`${BASE}/api/auth/signup`, JSON.stringify({
+      id, password, weight: 70.0, age: 30, gender: 'M', height: 175.0,
+    }), { headers: JSON_HEADERS }); // 이미 있으면 실패해도 무시
+    const res = http.post(`${BASE}/api/auth/login`, JSON.stringify({ id, password }), { headers: JSON_HEADERS });
+    if (res.status === 200) {
+      tokens.push(res.json('token'));
+    }
+  }
+  if (tokens.length === 0) {
+    throw new Error('로그인 가능한 테스트 계정이 없습니다');
+  }
+  return { tokens };
+}
+
+function isoDay(offsetDays) {
+  const d = new Date(Date.now() - offsetDays * 86400000);
+  return d.toISOString().slice(0, 10);
+}
+
+export default function (data) {
+  const token = data.tokens[(__VU - 1) % data.tokens.length];
+  const auth = { headers: { Authorization: `Bearer ${token}` } };
+  const r = Math.random();
+  let res;
+
+  if (r < 0.30) {
+    res = http.get(`${BASE}/api/diet/get?date=${isoDay(0)}`, Object.assign({ tags: { name: 'diet/get' } }, auth));
+  } else if (r < 0.45) {
+    res = http.get(`${BASE}/api/diet/range?from=${isoDay(30)}&to=${isoDay(0)}`,
+      Object.assign({ tags: { name: 'diet/range' } }, auth));
+  } else if (r < 0.60) {
+    res = http.get(`${BASE}/api/favorite`, Object.assign({ tags: { name: 'favorite' } }, auth));
+  } else if (r < 0.70) {
+    res = http.get(`${BASE}/ranking`, { tags: { name: 'ranking' } });
+  } else if (r < 0.80) {
+    res = http.get(`${BASE}/body/history/series`, Object.assign({ tags: { name: 'body/series' } }, auth));
+  } else if (UPSTREAM && r < 0.85) {
+    res = http.get(`${BASE}/api/food/public/search?name=${encodeURIComponent('김밥')}`, { tags: { name: 'food/search' } });
+  } else {
+    res = http.post(`${BASE}/api/diet/save`, JSON.stringify({
+      date: isoDay(0), type: 'lunch', food: `loadtest-${__ITER % 20}`, calories: 100,
+    }), { headers: Object.assign({ Authorization: `Bearer ${token}` }, JSON_HEADERS), tags: { name: 'diet/save' } });
+  }
+
+  check(res, { 'status < 400': (x) => x.status < 400 });
+  sleep(0.5 + Math.random()); // 사용자 생각 시간: VU 1200 이면 초당 약 1000 요청
+}
@@ -0,0 +1,165 @@
+// 오프라인 워크로드 믹스 (k6). perf 프로파일 + 외부 API 스텁을 대상으로 실행한다 (loadtest/run-perf.sh).
+//
+//   k6 run loadtest/workload.js                     기본: 초당 100 이터레이션, 2분
+//   k6 run -e RATE=300 -e DURATION=5m loadtest/workload.js
+//
+// 개방형 부하 (constant-arrival-rate): 서버가 느려져도 도착률은 유지되므로 처리량 한계와 지연 증가가 그대로 드러난다.
+// 동작별 비중 (합 100)
+//   login 5 / diet save 25 / diet get 15 / profile 20 / food search 25 / youtube search 5 / analyze 5
+//
+// 결과: 콘솔에 동작별 처리량과 p50/p95/p99, build/perf/summary-<시각>.json 에 전체 지표 (기계 판독용)
+//
+// 환경 변수: BASE_URL (기본 http://localhost:3000), RATE, DURATION, USERS (테스트 계정 수, 기본 100), MAX_VUS (기본 1000)
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE = __ENV.BASE_URL || 'http://localhost:3000';
+const USERS = Number(__ENV.USERS || 100);
+const PASSWORD = 'perf-password-1';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const ACTIONS = [
+  ['login', 5],
+  ['diet_save', 25],
+  ['diet_get', 15],
+  ['profile', 20],
+  ['food_search', 25],
+  ['youtube_search', 5],
+  ['analyze', 5],
+];
+const FOODS = ['김밥', '비빔밥', '크런키 빼빼로', '닭가슴살', '라면', '바나나', '그릭 요거트', '샐러드'];
+const MEALS = ['morning', 'lunch', 'dinner'];
+// 1x1 JPEG (스텁은 이미지 내용을 보지 않음, 요청 크기만 실제와 비슷하게 패딩)
+const IMAGE = '/9j/4AAQSkZJRgABAQEASABIAAD/2wBDAP' + 'A'.repeat(40000);
+
+const thresholds = {};
+for (const [name] of ACTIONS) {
+  // 동작별 서브 지표를 요약에 남기기 위한 임계값 (실패 기준은 넉넉하게)
+  thresholds[`http_req_duration{action:${name}}`] = ['p(99)<10000'];
+  thresholds[`http_reqs{action:${name}}`] = ['count>=0'];
+}
+
+export const options = {
+  scenarios: {
+    mix: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 100),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 100,
+      maxVUs: Number(__ENV.MAX_VUS || 1000),
+    },
+  },
+  thresholds,
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+// 테스트 계정 가입 + 로그인 (빈 H2 DB 기준, 이미 있으면 가입 실패는 무시)
+export function setup() {
+  const tokens = [];
+  for (let i = 0; i < USERS; i++) {
+    const id = `perf-${i}@test.com`;
+    http.post(`${BASE}/api/auth/signup`, JSON.stringify({
+      id, password: PASSWORD, weight: 60 + (i % 30), age: 20 + (i % 40), gender: i % 2 ? 'F' : 'M', height: 160 + (i % 25),
+    }), { headers: JSON_HEADERS, tags: { action: 'setup' } });
+    const res = http.post(`${BASE}/api/auth/login`, JSON.stringify({ id, password: PASSWORD }),
+      { headers: JSON_HEADERS, tags: { action: 'setup' } });
+    if (res.status === 200) {
+      tokens.push({ id, token: res.json('token') });
+    }
+  }
+  if (tokens.length === 0) {
+    throw new Error('로그인 가능한 테스트 계정이 없습니다 (앱이 perf 프로파일로 떠 있는지 확인)');
+  }
+  return { tokens };
+}
+
+function pickAction() {
+  let r = Math.random() * 100;
+  for (const [name, weight] of ACTIONS) {
+    if ((r -= weight) < 0) {
+      return name;
+    }
+  }
+  return ACTIONS[0][0];
+}
+
+function pick(list) {
+  return list[Math.floor(Math.random() * list.length)];
+}
+
+function today() {
+  return new Date().toISOString().slice(0, 10);
+}
+
+export default function (data) {
+  const user = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+  const auth = { Authorization: `Bearer ${user.token}` };
+  const action = pickAction();
+  const params = (headers) => ({ headers, tags: { action } });
+  let responses;
+
+  switch (action) {
+    case 'login':
+      responses = [http.post(`${BASE}/api/auth/login`, JSON.stringify({ id: user.id, password: PASSWORD }),
+        params(JSON_HEADERS))];
+      break;
+    case 'diet_save':
+      responses = [http.post(`${BASE}/api/diet/save`, JSON.stringify({
+        date: today(), type: pick(MEALS), food: pick(FOODS), calories: 100 + Math.floor(Math.random() * 500),
+      }), params(Object.assign({}, auth, JSON_HEADERS)))];
+      break;
+    case 'diet_get':
+      responses = [http.get(`${BASE}/api/diet/get?date=${today()}`, params(auth))];
+      break;
+    case 'profile':
+      responses = http.batch([
+        ['GET', `${BASE}/api/profile`, null, params(auth)],
+        ['GET', `${BASE}/body`, null, params(auth)],
+      ]);
+      break;
+    case 'food_search':
+      responses = [http.get(`${BASE}/api/food/public/search?name=${encodeURIComponent(pick(FOODS))}`, params({}))];
+      break;
+    case 'youtube_search':
+      responses = [http.get(`${BASE}/api/youtube/search?q=${encodeURIComponent('다이어트 운동')}`, params({}))];
+      break;
+    case 'analyze':
+      responses = [http.post(`${BASE}/api/gemini/classify`, JSON.stringify({ imageData: IMAGE, mimeType: 'image/jpeg' }),
+        params(Object.assign({}, auth, JSON_HEADERS)))];
+      break;
+  }
+  for (const res of responses) {
+    check(res, { [`${action} ok`]: (r) => r.status >= 200 && r.status < 400 });
+  }
+}
+
+function fmt(v) {
+  return v === undefined ? '-' : v.toFixed(1);
+}
+
+export function handleSummary(data) {
+  const seconds = data.state.testRunDurationMs / 1000;
+  const lines = [];
+  lines.push(`duration ${seconds.toFixed(0)}s, requests ${data.metrics.http_reqs.values.count}, ` +
+    `throughput ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, ` +
+    `failed ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%`);
+  lines.push('action              req/s  p50(ms)  p95(ms)  p99(ms)  max(ms)');
+  for (const [name] of ACTIONS) {
+    const m = data.metrics[`http_req_duration{action:${name}}`];
+    if (!m) {
+      continue;
+    }
+    const v = m.values;
+    const reqs = data.metrics[`http_reqs{action:${name}}`];
+    const rate = reqs ? reqs.values.count / seconds : undefined;
+    lines.push(`${name.padEnd(16)} ${fmt(rate).padStart(8)} ${fmt(v.med).padStart(8)} ${fmt(v['p(95)']).padStart(8)} ` +
+      `${fmt(v['p(99)']).padStart(8)} ${fmt(v.max).padStart(8)}`);
+  }
+  const stamp = new Date().toISOString().replace(/[:.]/g, '-');
+  return {
+    stdout: lines.join('\n') + '\n',
+    [`build/perf/summary-${stamp}.json`]: JSON.stringify(data, null, 2),
+  };
+}
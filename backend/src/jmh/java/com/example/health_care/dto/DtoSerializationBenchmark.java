@@ -0,0 +1,111 @@
+package com.example.health_care.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.health_care.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 주요 응답 DTO 의 Jackson 직렬화 (애플리케이션과 같은 JacksonConfig ObjectMapper 사용).
+ * 크기는 화면 기준: 하루 식단 18항목, 한 달 범위, 즐겨찾기 50개, 검색 결과 10개, 체중 그래프 300점.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoSerializationBenchmark {
+
+    ObjectMapper mapper;
+    DietRecordDTO dietRecord;
+    DietRangeDTO dietRange;
+    List<FavoriteFoodInfoResponse> favorites;
+    List<FoodDTO> foods;
+    WeightSeriesDTO weightSeries;
+
+    @Setup
+    public void setUp() {
+        mapper = new JacksonConfig().objectMapper(Jackson2ObjectMapperBuilder.json());
+
+        Map<String, List<DietRecordDTO.MealItem>> meals = new LinkedHashMap<>();
+        for (String meal : new String[] { "morning", "lunch", "dinner" }) {
+            List<DietRecordDTO.MealItem> items = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                items.add(new DietRecordDTO.MealItem(meal + "-음식-" + i, 120L + i * 15, 1_700_000_000_000L + i));
+            }
+            meals.put(meal, items);
+        }
+        dietRecord = DietRecordDTO.builder()
+                .idx(1L).recordDate(new Date(1_700_000_000_000L))
+                .caloriesM(600L).caloriesL(800L).caloriesD(700L)
+                .targetWeight(65.0).targetCalories(2000)
+                .mealDetails(meals)
+                .build();
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        List<DietRangeDTO.Day> days = new ArrayList<>();
+        for (int i = 0; i < 31; i++) {
+            days.add(DietRangeDTO.Day.builder().date(from.plusDays(i)).total(2100L)
+                    .morning(600L).lunch(800L).dinner(700L).build());
+        }
+        dietRange = DietRangeDTO.builder().from(from).to(from.plusDays(30)).days(days).build();
+
+        favorites = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            favorites.add(FavoriteFoodInfoResponse.builder().idx((long) i).food("즐겨찾기-" + i)
+                    .calories(100L + i).count((long) i).createdAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusHours(i))
+                    .build());
+        }
+
+        foods = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            foods.add(FoodDTO.builder().foodNm("크런키 빼빼로 " + i).enerc(150.5 + i).build());
+        }
+
+        List<WeightSeriesDTO.Point> points = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            points.add(new WeightSeriesDTO.Point(1_700_000_000_000L + i * 86_400_000L, 70 + (i % 10) * 0.1));
+        }
+        weightSeries = WeightSeriesDTO.builder().from(from).to(from.plusDays(299)).rawCount(3650).points(points)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] dietRecord() throws Exception {
+        return mapper.writeValueAsBytes(dietRecord);
+    }
+
+    @Benchmark
+    public byte[] dietRange() throws Exception {
+        return mapper.writeValueAsBytes(dietRange);
+    }
+
+    @Benchmark
+    public byte[] favorites() throws Exception {
+        return mapper.writeValueAsBytes(favorites);
+    }
+
+    @Benchmark
+    public byte[] foodSearch() throws Exception {
+        return mapper.writeValueAsBytes(foods);
+    }
+
+    @Benchmark
+    public byte[] weightSeries() throws Exception {
+        return mapper.writeValueAsBytes(weightSeries);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.health_care.security;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 인증된 요청마다 타는 JWT 경로 (JwtAuthenticationFilter -> validateToken + getUsernameFromToken)
+ * 와 로그인 시 토큰 발급.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    JwtTokenProvider provider;
+    Authentication authentication;
+    String token;
+    String tampered;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(null); // 토큰 검증/파싱에는 CustomersService 가 필요 없음
+        authentication = new UsernamePasswordAuthenticationToken(
+                new User("bench@test.com", "x", List.of()), null, List.of());
+        token = provider.createToken(authentication);
+        tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    // 필터가 실제로 하는 일: 검증 후 subject 를 다시 파싱
+    @Benchmark
+    public String validateAndGetUsername() {
+        return provider.validateToken(token) ? provider.getUsernameFromToken(token) : null;
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return provider.validateToken(tampered);
+    }
+}
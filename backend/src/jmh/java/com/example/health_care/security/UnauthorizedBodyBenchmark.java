@@ -0,0 +1,56 @@
+package com.example.health_care.security;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.health_care.config.JsonCodecs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 미인증 요청마다 나가는 401 본문 (JwtAuthenticationEntryPoint).
+ * 예전 방식(요청마다 new ObjectMapper() + Map 직렬화)과 기동 시 직렬화해 둔 본문에 timestamp 만 붙이는 방식 비교.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UnauthorizedBodyBenchmark {
+
+    JwtAuthenticationEntryPoint entryPoint;
+
+    @Setup
+    public void setUp() {
+        entryPoint = new JwtAuthenticationEntryPoint(new JsonCodecs(new ObjectMapper()));
+    }
+
+    @Benchmark
+    public byte[] newMapperPerRequest() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Object> errorDetails = new HashMap<>();
+        errorDetails.put("error", "Unauthorized");
+        errorDetails.put("message", "You need to login first");
+        errorDetails.put("timestamp", new Date());
+        errorDetails.put("status", 401);
+        mapper.writeValue(out, errorDetails);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] preSerialized() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        entryPoint.writeBody(out, System.currentTimeMillis());
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.health_care.dto.DietRecordDTO.MealItem;
+import com.example.health_care.entity.MealType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 식단/체중 경로의 CPU 작업: 날짜 파싱 (DietService.parseLocalDate -> toRecordDate), 기존 meal_details JSON 파싱
+ * (끼니 JSON 재작성 경로가 meal_item 으로 바뀐 뒤 남은 JSON 처리), 체중 시계열 LTTB 다운샘플링.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DietPathsBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    String mealDetailsJson;
+    long[] x;
+    double[] y;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("{");
+        String[] meals = { "morning", "lunch", "dinner" };
+        for (int m = 0; m < meals.length; m++) {
+            if (m > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(meals[m]).append("\":[");
+            for (int i = 0; i < 6; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"food\":\"음식-").append(m).append('-').append(i)
+                        .append("\",\"calories\":").append(120 + i * 15)
+                        .append(",\"timestamp\":").append(1_700_000_000_000L + i * 60_000L).append('}');
+            }
+            sb.append(']');
+        }
+        mealDetailsJson = sb.append('}').toString();
+
+        // 10년치 일별 체중
+        int n = 3650;
+        x = new long[n];
+        y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = 1_400_000_000_000L + i * 86_400_000L;
+            y[i] = 70 + Math.sin(i / 30.0) * 3 + (i % 7) * 0.1;
+        }
+    }
+
+    @Benchmark
+    public Date parseRecordDate() {
+        return DietService.toRecordDate(DietService.parseLocalDate("2024-01-15"));
+    }
+
+    @Benchmark
+    public LocalDate parseLocalDate() {
+        return DietService.parseLocalDate("2024-01-15");
+    }
+
+    @Benchmark
+    public Map<MealType, List<MealItem>> parseLegacyMealDetails() {
+        return LegacyMealDetails.parse(objectMapper, mealDetailsJson);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] downsampleWeights() {
+        return Downsampler.lttb(x, y, x.length, 300);
+    }
+}
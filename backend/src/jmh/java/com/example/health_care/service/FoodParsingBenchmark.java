@@ -0,0 +1,83 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.dto.FoodDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 공공데이터 식품 검색 응답 처리 (FoodService): 응답 파싱, 칼로리 문자열 숫자 추출, 후보 순위 매기기.
+ * 응답은 실제 API 형태 (response.header / response.body.items 배열, 칼로리는 "1,234.5kcal" 같은 문자열) 로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FoodParsingBenchmark {
+
+    private static final List<String> KCAL_KEYS = List.of("enerc", "kcal", "NUTR_CONT1", "에너지(kcal)");
+
+    @Param({ "10", "50" })
+    int items;
+
+    JsonCodecs codecs;
+    String body;
+    JsonNode kcalNode;
+    List<FoodDTO> candidates;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder sb = new StringBuilder("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"foodCd\":\"D1010").append(i).append("\",\"foodNm\":\"크런키 빼빼로 ").append(i)
+                    .append("\",\"enerc\":\"").append(1000 + i).append(".5kcal\",\"prot\":\"3.2\",\"fatce\":\"7.1\"}");
+        }
+        sb.append("]}}}");
+        body = sb.toString();
+        codecs = new JsonCodecs(new ObjectMapper());
+
+        kcalNode = new ObjectMapper().readTree("{\"foodNm\":\"김밥\",\"에너지(kcal)\":\"1,234.5 kcal\"}");
+
+        candidates = new ArrayList<>();
+        for (int i = 0; i < items * 4; i++) {
+            String name = switch (i % 4) {
+                case 0 -> "빼빼로 크런키 " + i;
+                case 1 -> "크런키 " + i;
+                case 2 -> "아몬드 빼빼로 대용량 " + i;
+                default -> "초코과자 " + i;
+            };
+            candidates.add(FoodDTO.builder().foodNm(name).enerc(i % 5 == 0 ? null : 100.0 + i).build());
+        }
+    }
+
+    @Benchmark
+    public List<FoodDTO> parseSearchResponse() throws Exception {
+        return FoodService.parseSearchResponse(codecs.readTree(body));
+    }
+
+    @Benchmark
+    public Double firstNumber() {
+        return FoodService.firstNumber(kcalNode, KCAL_KEYS);
+    }
+
+    @Benchmark
+    public List<FoodDTO> rankAndFilterResults() {
+        return FoodService.rankAndFilterResults(candidates, "크런키 빼빼로", 10);
+    }
+}
@@ -2,8 +2,12 @@ package com.example.health_care;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.example.health_care.config.NativeImageHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeImageHints.class)
 public class HealthCareApplication {
 
     public static void main(String[] args) {
@@ -1,6 +1,8 @@
 package com.example.health_care.config;
 
 import io.github.cdimascio.dotenv.Dotenv;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.logging.DeferredLogFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.env.EnvironmentPostProcessor;
 import org.springframework.core.env.ConfigurableEnvironment;
@@ -13,11 +15,24 @@ import java.util.Properties;
  * apikeys.env 파일을 애플리케이션 시작 시점에 로드하여
  * 환경 변수(Environment)에 추가하는 역할을 합니다.
  * 이 프로세서는 다른 빈이 생성되기 전에 실행됩니다.
+ * 로깅 시스템 초기화 전이라 DeferredLog 로 모아 두었다가 초기화 후 출력합니다.
+ * application*.yml 이 먼저 로드되므로 dotenv.enabled=false 로 끌 수 있습니다.
  */
 public class DotenvEnvironmentPostProcessor implements EnvironmentPostProcessor {
 
+    private final Log log;
+
+    public DotenvEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(DotenvEnvironmentPostProcessor.class);
+    }
+
     @Override
     public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        // 키를 환경 변수로만 주입하는 배포(faststart 프로파일)에서는 파일 탐색/로드를 건너뜀
+        if (!environment.getProperty("dotenv.enabled", Boolean.class, true)) {
+            return;
+        }
+
         // apikeys.env 파일 경로 설정
         String filePath = "./apikeys.env";
         File file = new File(filePath);
@@ -33,20 +48,19 @@ public class DotenvEnvironmentPostProcessor implements EnvironmentPostProcessor
                 Properties properties = new Properties();
                 dotenv.entries().forEach(entry -> {
                     properties.put(entry.getKey(), entry.getValue());
-                    System.out.println("Loaded .env property: " + entry.getKey());
+                    log.debug("Loaded .env property: " + entry.getKey());
                 });
 
                 // 로드된 속성을 환경에 추가합니다.
                 environment.getPropertySources().addLast(new PropertiesPropertySource("dotenvFile", properties));
-                System.out.println("Successfully loaded apikeys.env properties.");
+                log.info("Successfully loaded apikeys.env properties (" + properties.size() + ")");
 
             } catch (Exception e) {
-                System.err.println("Failed to load apikeys.env file: " + e.getMessage());
+                log.warn("Failed to load apikeys.env file: " + e.getMessage());
                 // 오류가 발생해도 애플리케이션이 시작되도록 합니다.
             }
         } else {
-            System.out.println("apikeys.env file not found at " + filePath);
-            System.out.println("Proceeding with existing environment variables.");
+            log.info("apikeys.env file not found at " + filePath + ", proceeding with existing environment variables.");
         }
     }
 }
@@ -97,18 +97,7 @@ public class FoodClient {
     // 공공데이터 API 실제 호출
     private String callOnce(String q, int pageNo, int rows, String key, boolean keyIsEncoded) {
         try {
-            String encodedFoodNm = q == null ? "" : URLEncoder.encode(q, StandardCharsets.UTF_8);
-            String serviceKey = keyIsEncoded ? key : URLEncoder.encode(key, StandardCharsets.UTF_8);
-
-            String fullUrl = joinUrl(baseUrl, endpoint);
-            URI uri = UriComponentsBuilder.fromHttpUrl(fullUrl)
-                    .queryParam("serviceKey", serviceKey)
-                    .queryParam("type", "json")
-                    .queryParam("pageNo", pageNo)
-                    .queryParam("numOfRows", rows)
-                    .queryParam("foodNm", encodedFoodNm)
-                    .build(true)
-                    .toUri();
+            URI uri = buildUri(q, pageNo, rows, key, keyIsEncoded);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setAcceptCharset(List.of(StandardCharsets.UTF_8));
@@ -152,6 +141,35 @@ public class FoodClient {
         }
     }
 
+    // 식품명 검색 URI (ReactiveFoodService 와 공용). 키 자동 감지 전이면 디코딩 키를 인코딩해서 사용
+    public URI searchUri(String name, int page, int perPage) {
+        String q = name == null ? "" : name.trim();
+        int pageNo = Math.max(1, page);
+        int rows   = Math.min(Math.max(1, perPage), 50);
+        String key = workingKey;
+        boolean encoded = workingIsEncoded;
+        if (key == null) {
+            key = decKey;
+            encoded = false;
+        }
+        return buildUri(q, pageNo, rows, key, encoded);
+    }
+
+    private URI buildUri(String q, int pageNo, int rows, String key, boolean keyIsEncoded) {
+        String encodedFoodNm = q == null ? "" : URLEncoder.encode(q, StandardCharsets.UTF_8);
+        String serviceKey = keyIsEncoded ? key : URLEncoder.encode(key, StandardCharsets.UTF_8);
+
+        String fullUrl = joinUrl(baseUrl, endpoint);
+        return UriComponentsBuilder.fromHttpUrl(fullUrl)
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("type", "json")
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", rows)
+                .queryParam("foodNm", encodedFoodNm)
+                .build(true)
+                .toUri();
+    }
+
     private static String joinUrl(String base, String path) {
         if (base.endsWith("/") && path.startsWith("/")) return base.substring(0, base.length()-1) + path;
         if (!base.endsWith("/") && !path.startsWith("/")) return base + "/" + path;
@@ -1,26 +1,32 @@
 package com.example.health_care.config;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 @Configuration
 public class JacksonConfig {
 
+    // 스프링 부트 빌더로 생성: JavaTimeModule 등 classpath 모듈과 spring.jackson.* 설정, Module 빈이 함께 적용됨
     @Bean
     @Primary
-    public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        
-        // JavaTimeModule 등록 (LocalDateTime, LocalDate 등 지원)
-        mapper.registerModule(new JavaTimeModule());
-        
-        // 날짜를 timestamp가 아닌 문자열로 직렬화
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        
-        return mapper;
+    public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
+        // getter/setter 를 리플렉션 대신 LambdaMetafactory 로 만든 함수로 호출.
+        // 네이티브 이미지에서는 실행 중 클래스 생성이 안 되므로 기본(리플렉션) 방식 그대로 사용
+        if (!NativeDetector.inNativeImage()) {
+            builder.modulesToInstall(modules -> modules.add(new BlackbirdModule()));
+        }
+        return builder
+                // 날짜를 timestamp가 아닌 문자열로 직렬화
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                // 빌더 기본값은 모르는 필드 무시라, 이전(new ObjectMapper())처럼 요청 DTO 에 없는 필드는 400 으로 유지
+                .featuresToEnable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
     }
 }
@@ -0,0 +1,55 @@
+package com.example.health_care.config;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 애플리케이션 공용 JSON 코덱 (JacksonConfig 의 ObjectMapper 하나를 공유).
+ * <ul>
+ * <li>{@link #readTree(String)}: 외부 API 응답(공공데이터 / YouTube / Gemini) 트리 파싱용 공유 ObjectReader</li>
+ * <li>{@link #reader(Class)} / {@link #writer(Class)}: 타입이 고정된 경로(저널 등)는 생성자에서 한 번 만들어 필드에 보관</li>
+ * <li>{@link #preSerialize(Object)}: 내용이 고정된 응답(401 본문 등)을 기동 시 바이트로 만들어 두기</li>
+ * </ul>
+ * ObjectReader / ObjectWriter 는 불변이라 스레드 간 공유해도 된다. 요청마다 new ObjectMapper() 를 만들면
+ * 직렬화기 캐시까지 매번 새로 채우므로 쓰지 않는다.
+ */
+@Component
+public class JsonCodecs {
+
+    private final ObjectMapper mapper;
+    private final ObjectReader treeReader;
+
+    public JsonCodecs(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.treeReader = mapper.reader();
+    }
+
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+
+    public JsonNode readTree(String json) throws JsonProcessingException {
+        return treeReader.readTree(json);
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return mapper.readerFor(type);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return mapper.writerFor(type);
+    }
+
+    public byte[] preSerialize(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("고정 응답 직렬화 실패: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.health_care.config;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대량으로 반복되는 이벤트(만료 토큰, 401, 외부 API 실패 등) 로그를 줄이기 위한 도우미.
+ * <ul>
+ * <li>{@link #tryAcquire()}: interval 당 1건만 통과, 그 사이 억제된 건수를 다음 통과 때 돌려준다.</li>
+ * <li>{@link #sample(double)}: 비율 샘플링 (디버그용 페이로드 로그 등).</li>
+ * </ul>
+ * 락 없이 CAS 한 번이라 요청 경로에서 호출해도 된다.
+ */
+public final class LogThrottle {
+
+    private final long intervalNanos;
+    private final AtomicLong nextAllowed;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogThrottle(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextAllowed = new AtomicLong(System.nanoTime());
+    }
+
+    /** 이번에 로그를 남겨도 되면 직전 구간에서 억제된 건수(0 이상), 아니면 -1. */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long next = nextAllowed.get();
+        if (now - next >= 0 && nextAllowed.compareAndSet(next, now + intervalNanos)) {
+            return suppressed.sumThenReset();
+        }
+        suppressed.increment();
+        return -1;
+    }
+
+    public static boolean sample(double rate) {
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /** 로그에 넣을 페이로드(외부 응답 본문 등)를 max 자로 자른다. */
+    public static String truncate(String s, int max) {
+        if (s == null || s.length() <= max) {
+            return s;
+        }
+        return s.substring(0, max) + "...(" + (s.length() - max) + " chars truncated)";
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.health_care.config;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * 네이티브 이미지 빌드 (./gradlew nativeCompile -Pnative) 때 AOT 가 스스로 찾지 못하는 리소스.
+ * 빈/컨트롤러 DTO 의 리플렉션 정보는 Spring AOT 가, 라이브러리(Oracle JDBC, Hibernate 등)는
+ * GraalVM reachability metadata 저장소가 채운다.
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // hibernate.javax.cache.uri (ehcache.xml) 와 Ehcache 가 설정 검증에 쓰는 XSD
+        hints.resources().registerPattern("ehcache.xml");
+        hints.resources().registerPattern("ehcache-*.xsd");
+    }
+}
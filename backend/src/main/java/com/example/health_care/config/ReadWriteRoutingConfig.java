@@ -0,0 +1,112 @@
+package com.example.health_care.config;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (spring.datasource.replica.enabled=true 일 때만).
+ * <ul>
+ * <li>primary: spring.datasource.* / spring.datasource.hikari.* (기존 설정 그대로)</li>
+ * <li>replica: spring.datasource.replica.url / username / password, 풀 설정은 spring.datasource.replica.hikari.*</li>
+ * </ul>
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 커넥션이 read-only 로 표시되므로
+ * LazyConnectionDataSourceProxy 가 첫 SQL 시점에 readOnlyDataSource(복제본, 지연 초과/장애 시 primary)에서 커넥션을 꺼냅니다.
+ * 그 밖의 트랜잭션과 트랜잭션 밖 쓰기는 primary 로 갑니다.
+ * 읽기 전용 트랜잭션은 2차 캐시/쿼리 캐시를 쓰지 않으므로 ({@link ReplicaCacheModeJpaDialect}) 복제본의 옛 행이 캐시에 남지 않습니다.
+ * 방금 쓴 값을 바로 봐야 하는 조회 (ETag 버전 등) 는 읽기 전용으로 표시하지 않아 primary 에서 읽습니다.
+ * 두 풀은 각각 Hikari 빈이라 hikaricp.* / jdbc.connections.* 메트릭이 pool 태그(primary / replica)로 따로 나옵니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 드라이버는 primary 와 같은 DB 종류로 보고, 계정은 따로 지정하지 않으면 primary 계정을 사용
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:}") String username,
+            @Value("${spring.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(StringUtils.hasText(username) ? username : properties.determineUsername())
+                .password(StringUtils.hasText(username) ? password : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+            @Value("${spring.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${spring.datasource.replica.max-lag:5s}") Duration maxLag,
+            MeterRegistry registry) {
+        return new ReplicaLagMonitor(replica, lagQuery, maxLag, registry);
+    }
+
+    // JPA / 트랜잭션 매니저가 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor, MeterRegistry registry) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaFallbackDataSource(primary, replica, replicaLagMonitor, registry));
+        // 기본값을 지정해 두면 기동 시 기본값 확인용 커넥션을 꺼내지 않음 (메트릭 바인딩 전에 풀이 뜨지 않게)
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    // 읽기 전용(복제본) 트랜잭션은 CacheMode.IGNORE (afterPropertiesSet 전에 넣어야 벤더 기본 dialect 대신 쓰임)
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 복제본 장애는 primary 로 우회되므로 db 헬스는 primary 만 본다 (복제본 상태는 datasource.replica.* 메트릭)
+    @Bean
+    public DataSourceHealthIndicator dbHealthIndicator(@Qualifier("primaryDataSource") DataSource primary) {
+        return new DataSourceHealthIndicator(primary);
+    }
+}
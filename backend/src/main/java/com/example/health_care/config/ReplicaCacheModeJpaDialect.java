@@ -0,0 +1,46 @@
+package com.example.health_care.config;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 읽기 전용 트랜잭션(복제본으로 라우팅)은 2차 캐시와 쿼리 캐시를 쓰지 않습니다 (CacheMode.IGNORE).
+ * 복제본 지연 중에 읽은 옛 행이 캐시에 들어가면 TTL(최대 10분) 동안 primary 의 새 값 대신 보이기 때문입니다.
+ * GET 은 안 됨: Hibernate 6.6 은 GET 이어도 쿼리 캐시 미스 결과를 캐시에 넣습니다.
+ * 캐시는 primary 에서 읽거나 쓴 트랜잭션이 채우고, 트랜잭션이 끝나면 세션의 원래 CacheMode 로 되돌립니다 (open-in-view 세션 재사용 대비).
+ * {@link ReadWriteRoutingConfig} 가 복제본을 켰을 때만 EntityManagerFactory 에 등록합니다.
+ */
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object data = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return data;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        return new ReadOnlyTransactionData(data, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+}
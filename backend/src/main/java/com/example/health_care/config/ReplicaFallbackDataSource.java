@@ -0,0 +1,61 @@
+package com.example.health_care.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 커넥션 공급원: 복제본이 사용 가능하면 복제본, 아니면 primary.
+ * 복제본 커넥션 획득이 실패하면 모니터를 사용 불가로 돌리고 같은 요청은 primary 커넥션으로 이어갑니다.
+ * {@link ReadWriteRoutingConfig} 에서 LazyConnectionDataSourceProxy 의 readOnlyDataSource 로만 쓰입니다.
+ */
+class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+    private final Counter toReplica;
+    private final Counter toPrimary;
+
+    ReplicaFallbackDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor, MeterRegistry registry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        this.toReplica = counter(registry, "replica");
+        this.toPrimary = counter(registry, "primary");
+    }
+
+    private static Counter counter(MeterRegistry registry, String target) {
+        return Counter.builder("datasource.readonly.connections")
+                .description("읽기 전용 트랜잭션 커넥션 (target = 실제로 간 풀)")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (monitor.isUsable()) {
+            try {
+                Connection connection = replica.getConnection();
+                toReplica.increment();
+                return connection;
+            } catch (SQLException ex) {
+                monitor.markUnusable(ex);
+            }
+        }
+        toPrimary.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("풀 설정의 계정만 사용");
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.health_care.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 복제본 상태 확인.
+ * 주기마다 복제 지연(lag-query, 초)을 조회해 max-lag 이하일 때만 읽기 전용 트랜잭션을 복제본으로 보내게 합니다.
+ * 조회 실패 / 지연 값 없음 / 지연 초과면 사용 불가로 보고 다음 확인까지 primary 로 읽습니다.
+ * lag-query 가 비어 있으면 연결 확인만 합니다 (로컬 H2 등 복제 지연을 알 수 없는 환경).
+ * 첫 확인 전에는 사용 불가 상태로 시작합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile boolean usable = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry registry) {
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagSeconds)
+                .description("복제본 적용 지연 (마지막 확인 값)")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+                .description("1 이면 읽기 전용 트랜잭션을 복제본으로 보냄")
+                .register(registry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-ms:2000}")
+    public void check() {
+        try {
+            if (!StringUtils.hasText(lagQuery)) {
+                boolean valid = replica.execute((ConnectionCallback<Boolean>) c -> c.isValid(CHECK_TIMEOUT_SECONDS));
+                update(Boolean.TRUE.equals(valid), Boolean.TRUE.equals(valid) ? 0 : Double.NaN, "연결 확인 실패");
+                return;
+            }
+            Double lag = replica.queryForObject(lagQuery, Double.class);
+            if (lag == null) {
+                update(false, Double.NaN, "복제 지연 값 없음");
+            } else {
+                update(lag <= maxLagSeconds, lag, "복제 지연 " + lag + "s > " + maxLagSeconds + "s");
+            }
+        } catch (DataAccessException ex) {
+            update(false, Double.NaN, ex.getMessage());
+        }
+    }
+
+    // 복제본 커넥션을 못 얻으면 다음 확인 주기를 기다리지 않고 바로 primary 로 돌림
+    void markUnusable(SQLException ex) {
+        update(false, lagSeconds, ex.getMessage());
+    }
+
+    // 상태가 바뀔 때만 로그 (확인 주기마다 찍히지 않게)
+    private void update(boolean nowUsable, double lag, String reason) {
+        lagSeconds = lag;
+        boolean was = usable;
+        usable = nowUsable;
+        if (was && !nowUsable) {
+            log.warn("복제본 읽기 중단, primary 로 전환: {}", reason);
+        } else if (!was && nowUsable) {
+            log.info("복제본 읽기 사용 (lag={}s)", lag);
+        }
+    }
+}
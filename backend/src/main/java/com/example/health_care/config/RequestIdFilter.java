@@ -0,0 +1,48 @@
+package com.example.health_care.config;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 상관관계 ID 를 MDC(requestId) 에 넣어 그 요청에서 남긴 모든 로그에 붙인다.
+ * 클라이언트/프록시가 보낸 X-Request-Id 가 안전한 형식이면 그대로 쓰고, 아니면 새로 만든다.
+ * 응답 헤더에도 같은 값을 돌려줘 클라이언트 오류 보고와 서버 로그를 맞춰 볼 수 있다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 보안 필터보다 먼저: 인증 실패 로그에도 requestId 가 붙도록
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern SAFE_ID = Pattern.compile("[A-Za-z0-9._-]{8,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !SAFE_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString().replace("-", "");
+        }
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -1,20 +1,70 @@
 package com.example.health_care.config;
 
+import java.net.URI;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
 // HTTP 클라이언트 설정
 @Configuration
 public class RestClientConfig {
     
+    // 자동 구성된 RestTemplateBuilder 로 만들어야 http.client.requests 타이머가 붙는다
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(5000);  // 5초 연결 타임아웃
         factory.setReadTimeout(10000);    // 10초 읽기 타임아웃
-        return new RestTemplate(factory);
+        return builder.requestFactory(() -> factory).build();
+    }
+
+    // http.client.requests 에 upstream 태그 (food / gemini / youtube) 추가
+    @Bean
+    public ClientRequestObservationConvention upstreamClientRequestObservationConvention() {
+        return new DefaultClientRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(KeyValue.of("upstream", upstream(context)));
+            }
+        };
+    }
+
+    static String upstream(ClientRequestObservationContext context) {
+        ClientHttpRequest request = context.getCarrier();
+        return upstream(request == null ? null : request.getURI());
+    }
+
+    // WebClientConfig 와 공용
+    static String upstream(URI uri) {
+        String host = uri == null || uri.getHost() == null ? "" : uri.getHost();
+        if (host.endsWith("data.go.kr")) {
+            return "food";
+        }
+        if (host.startsWith("generativelanguage.")) {
+            return "gemini";
+        }
+        // 호스트로 구분이 안 되면 (perf 프로파일의 로컬 스텁 등) 경로로 구분
+        String path = uri == null || uri.getPath() == null ? "" : uri.getPath();
+        if (path.startsWith("/youtube/")) {
+            return "youtube";
+        }
+        if (path.contains(":generateContent")) {
+            return "gemini";
+        }
+        if (path.contains("nutri_info")) {
+            return "food";
+        }
+        return host.isEmpty() ? "none" : "other";
     }
     
 }
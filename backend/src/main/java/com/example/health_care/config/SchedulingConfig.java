@@ -0,0 +1,10 @@
+package com.example.health_care.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 배치 작업 활성화 (meal_item 백필 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.example.health_care.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -7,11 +8,10 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.example.health_care.security.JwtAuthenticationEntryPoint;
 import com.example.health_care.security.JwtAuthenticationFilter;
 
 import lombok.RequiredArgsConstructor;
@@ -41,7 +41,8 @@ public class SecurityConfig {
 
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http,
-                        JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+                        JwtAuthenticationFilter jwtAuthenticationFilter,
+                        JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) throws Exception {
                 http
                                 // corsConfig 빈에서 가져온 설정을 직접 사용
                                 .cors(cors -> cors.configurationSource(corsConfig.corsConfigurationSource()))
@@ -50,6 +51,8 @@ public class SecurityConfig {
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                                 .authorizeHttpRequests(auth -> auth
                                                 .requestMatchers(SWAGGER_WHITELIST).permitAll()
+                                                // 헬스 체크 / Prometheus 스크레이프 (management 포트에서만 열림)
+                                                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                                                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                                                 .requestMatchers(PUBLIC_WHITELIST).permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/ranking").permitAll()
@@ -60,6 +63,8 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/food/public/**").permitAll()
                                                 .requestMatchers("/api/youtube/**").permitAll()
                                                 .anyRequest().authenticated())
+                                // 인증 없이 보호된 경로 접근 시 403 대신 401 + JSON 본문
+                                .exceptionHandling(e -> e.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                                 // 폼/베이직 로그인 비활성
                                 .httpBasic(b -> b.disable())
                                 .formLogin(f -> f.disable());
@@ -67,11 +72,7 @@ public class SecurityConfig {
                 return http.build();
         }
 
-        @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
-        }
-
+        // PasswordEncoder 빈은 security.PasswordHasher (전용 해싱 스레드 풀) 가 제공
         @Bean
         public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
                         throws Exception {
@@ -0,0 +1,61 @@
+package com.example.health_care.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * service 패키지 *Service 의 public 메서드 실행 시간을 service.method 타이머로 기록.
+ * 태그: service, method, outcome(success/error/cancelled), exception.
+ * Mono/Flux 를 반환하는 리액티브 서비스는 반환 시점이 아니라 완료/오류/취소 시점까지 잰다.
+ * 히스토그램/SLO 버킷은 application.yml management.metrics.distribution 에서 설정.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.example.health_care.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            stop(sample, pjp, "error", t);
+            throw t;
+        }
+        if (result instanceof Mono<?> mono) {
+            return mono
+                    .doOnSuccess(v -> stop(sample, pjp, "success", null))
+                    .doOnError(t -> stop(sample, pjp, "error", t))
+                    .doOnCancel(() -> stop(sample, pjp, "cancelled", null));
+        }
+        if (result instanceof Flux<?> flux) {
+            return flux
+                    .doOnComplete(() -> stop(sample, pjp, "success", null))
+                    .doOnError(t -> stop(sample, pjp, "error", t))
+                    .doOnCancel(() -> stop(sample, pjp, "cancelled", null));
+        }
+        stop(sample, pjp, "success", null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, ProceedingJoinPoint pjp, String outcome, Throwable error) {
+        sample.stop(Timer.builder("service.method")
+                .tag("service", pjp.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", pjp.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.health_care.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.ClientRequestObservationConvention;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 API 프록시 엔드포인트의 리액티브 구현용 WebClient (outbound.reactive.enabled=true 일 때만).
+ * Reactor Netty 이벤트 루프 몇 개로 모든 외부 호출을 처리하고, 커넥션 풀 대기열을 제한해
+ * 외부 API 가 느려져도 대기 요청이 끝없이 쌓이지 않게 합니다 (초과분은 즉시 실패 -> 서비스별 fallback).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class WebClientConfig {
+
+    @Bean
+    public WebClient outboundWebClient(WebClient.Builder builder) {
+        ConnectionProvider pool = ConnectionProvider.builder("outbound")
+                .maxConnections(200)
+                .pendingAcquireMaxCount(1000)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000) // 5초 연결 타임아웃
+                .responseTimeout(Duration.ofSeconds(60)); // 상한 (서비스별 timeout 이 먼저 걸림)
+        // 자동 구성된 WebClient.Builder 라 http.client.requests 타이머가 붙는다
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .build();
+    }
+
+    // RestTemplate 과 같은 upstream 태그 (food / gemini / youtube)
+    @Bean
+    public ClientRequestObservationConvention upstreamWebClientObservationConvention() {
+        return new DefaultClientRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+                ClientRequest request = context.getRequest();
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("upstream", RestClientConfig.upstream(request == null ? null : request.url())));
+            }
+        };
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,6 +26,7 @@ import com.example.health_care.dto.SignupRequest;
 import com.example.health_care.dto.SignupResponse;
 import com.example.health_care.entity.CustomersEntity;
 import com.example.health_care.security.JwtTokenProvider;
+import com.example.health_care.security.PasswordHashRejectedException;
 import com.example.health_care.service.CustomersService;
 import com.example.health_care.service.TokenBlacklistService;
 
@@ -48,7 +50,7 @@ public class AuthController {
 
     @PostMapping("/signup")
     public ResponseEntity<SignupResponse> signup(@Valid @RequestBody SignupRequest request) {
-        log.info("[SIGNUP] request id = {}, weight = {}, age = {}, gender = {}, height = {}", request.getId(),
+        log.debug("[SIGNUP] request id = {}, weight = {}, age = {}, gender = {}, height = {}", request.getId(),
                 request.getWeight(), request.getAge(), request.getGender(), request.getHeight()); // log 확인
         CustomersEntity saved = customersService.signup(request);
         log.info("[SIGNUP] saved id = {}", saved.getId()); // log 확인
@@ -91,6 +93,12 @@ public class AuthController {
                     "message", "아이디 또는 비밀번호가 올바르지 않습니다."
                 )
             );
+        } catch (InternalAuthenticationServiceException e) {
+            // 없는 아이디 처리 중 해싱 큐가 가득 찬 경우도 429 로 응답되도록 원인 예외를 그대로 던짐
+            if (e.getCause() instanceof PasswordHashRejectedException rejected) {
+                throw rejected;
+            }
+            throw e;
         }
     }
 
@@ -0,0 +1,64 @@
+package com.example.health_care.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 버전 기반 조건부 GET.
+ * 서비스가 계산한 버전(DB version, 인메모리 인덱스 버전 등)으로 약한 ETag 를 만들고,
+ * If-None-Match 가 같으면 본문을 만들지 않고 304 를 돌려줍니다.
+ * 응답은 사용자별이라 Cache-Control: private, no-cache (저장은 하되 매번 재검증).
+ * 결과는 http.conditional.requests (resource, result = not_modified / modified / no_version) 로 집계합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param version null 이면 ETag 없이 그대로 응답 (버전을 알 수 없는 경우). 본문을 만들기 전에 계산한 값이어야 함
+     * @return 304 면 null (상태/헤더는 request 의 응답에 이미 설정됨)
+     */
+    public <T> ResponseEntity<T> respond(String resource, ServletWebRequest request, String version,
+            Supplier<ResponseEntity<T>> body) {
+        if (version == null) {
+            count(resource, "no_version");
+            return body.get();
+        }
+        // 304 판정과 함께 응답에 ETag 헤더를 넣음
+        if (request.checkNotModified("W/\"" + version + "\"")) {
+            if (request.getResponse() != null) {
+                request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+            }
+            count(resource, "not_modified");
+            return null;
+        }
+        count(resource, "modified");
+        ResponseEntity<T> response = body.get();
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .cacheControl(REVALIDATE)
+                .body(response.getBody());
+    }
+
+    private void count(String resource, String result) {
+        Counter.builder("http.conditional.requests")
+                .description("ETag 조건부 GET 결과")
+                .tag("resource", resource)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
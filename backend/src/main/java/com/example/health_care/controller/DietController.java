@@ -3,10 +3,14 @@ package com.example.health_care.controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.health_care.dto.DietBatchRequest;
+import com.example.health_care.dto.DietBatchResultDTO;
+import com.example.health_care.dto.DietRangeDTO;
+import com.example.health_care.dto.DietRecordDTO;
 import com.example.health_care.dto.DietRequest;
-import com.example.health_care.entity.RecordEntity;
 import com.example.health_care.service.DietService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,15 +48,28 @@ public class DietController {
         }
     }
 
+    // 여러 음식 한 번에 저장 (끼니/날짜 섞여도 됨): 날짜별 트랜잭션 1개, 저장 후 날짜별 끼니 합계 반환
+    @PostMapping("/batch")
+    public ResponseEntity<DietBatchResultDTO> saveDietBatch(Authentication authentication,
+            @Valid @RequestBody DietBatchRequest request) {
+
+        try {
+            return ResponseEntity.ok(dietService.saveDietBatch(authentication.getName(), request.getItems()));
+        } catch (IllegalArgumentException e) {
+            log.warn("식단 일괄 저장 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
     // 식단 조회
     @GetMapping("/get")
-    public ResponseEntity<RecordEntity> getDietRecord(Authentication authentication,
+    public ResponseEntity<DietRecordDTO> getDietRecord(Authentication authentication,
             @RequestParam("date") String date) {
 
         try {
             String customerId = authentication.getName();
 
-            RecordEntity record = dietService.getDietRecord(customerId, date);
+            DietRecordDTO record = dietService.getDietRecord(customerId, date);
 
             return ResponseEntity.ok(record);
             
@@ -62,4 +79,19 @@ public class DietController {
         }
     }
 
+    // 기간 조회 (달력/차트): 일별 칼로리 합계, meals=true 면 아침/점심/저녁 포함
+    @GetMapping("/range")
+    public ResponseEntity<DietRangeDTO> getDietRange(Authentication authentication,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to,
+            @RequestParam(value = "meals", defaultValue = "false") boolean meals) {
+
+        try {
+            return ResponseEntity.ok(dietService.getDietRange(authentication.getName(), from, to, meals));
+        } catch (IllegalArgumentException e) {
+            log.warn("식단 기간 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
 }
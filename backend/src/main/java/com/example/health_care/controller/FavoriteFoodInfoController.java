@@ -10,7 +10,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.example.health_care.dto.FavoriteFoodInfoRequest;
 import com.example.health_care.dto.FavoriteFoodInfoResponse;
@@ -27,29 +29,33 @@ import lombok.extern.slf4j.Slf4j;
 public class FavoriteFoodInfoController {
     
     private final FavoriteFoodInfoService favoriteFoodInfoService;
+    private final ConditionalGet conditionalGet;
 
-    // 즐겨찾기 목록 조회
+    // 즐겨찾기 목록 조회 (GET /api/favorite?sort=used 면 자주 먹은 순, 기본 최신순) - 바뀐 게 없으면 304
     @GetMapping
-    public ResponseEntity<List<FavoriteFoodInfoResponse>> getFavorites(Authentication authentication) {
+    public ResponseEntity<List<FavoriteFoodInfoResponse>> getFavorites(Authentication authentication,
+            @RequestParam(value = "sort", required = false) String sort,
+            ServletWebRequest request) {
         try {
             String customerId = authentication.getName();
-            List<FavoriteFoodInfoResponse> favorites = favoriteFoodInfoService.getFavorites(customerId);
-            return ResponseEntity.ok(favorites);
+            boolean mostUsed = "used".equalsIgnoreCase(sort);
+            String version = favoriteFoodInfoService.getFavoritesVersion(customerId, mostUsed);
+            return conditionalGet.respond("favorites", request, version,
+                    () -> ResponseEntity.ok(favoriteFoodInfoService.getFavorites(customerId, mostUsed)));
         } catch (Exception e) {
             log.error("즐겨찾기 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
-    // 즐겨찾기 추가
+    // 즐겨찾기 추가 (50개가 차 있으면 가장 오래된 항목을 교체) - 추가된 항목을 반환
     @PostMapping
-    public ResponseEntity<String> addFavorite(
+    public ResponseEntity<?> addFavorite(
             @Valid @RequestBody FavoriteFoodInfoRequest request,
             Authentication authentication) {
         try {
             String customerId = authentication.getName();
-            favoriteFoodInfoService.addFavorite(customerId, request);
-            return ResponseEntity.ok("즐겨찾기 추가 완료");
+            return ResponseEntity.ok(favoriteFoodInfoService.addFavorite(customerId, request));
         } catch (IllegalArgumentException e) {
             log.warn("즐겨찾기 추가 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
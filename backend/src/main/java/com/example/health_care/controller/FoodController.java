@@ -1,6 +1,7 @@
 package com.example.health_care.controller;
 
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,6 +9,7 @@ import com.example.health_care.dto.FoodDTO;
 import com.example.health_care.service.FoodService;
 
 @RestController
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class FoodController {
 
     private final FoodService service;
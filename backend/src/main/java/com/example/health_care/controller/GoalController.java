@@ -1,18 +1,22 @@
 package com.example.health_care.controller;
 
-import java.util.List;
-
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import com.example.health_care.dto.BodyHistoryItem;
 import com.example.health_care.dto.CustomersProfileDTO;
+import com.example.health_care.dto.HistoryPageDTO;
 import com.example.health_care.dto.UpdateAccountRequest;
-import com.example.health_care.entity.BodyEntity;
+import com.example.health_care.dto.WeightSeriesDTO;
 import com.example.health_care.service.CustomersService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,19 +29,23 @@ import lombok.extern.slf4j.Slf4j;
 public class GoalController {
 
     private final CustomersService customersService;
+    private final ConditionalGet conditionalGet;
 
-    // 프론트엔드에서 GET /body 요청이 오면 이 메서드가 처리
+    // 프론트엔드에서 GET /body 요청이 오면 이 메서드가 처리 (/api/profile 과 같은 응답, 같은 ETag)
     @GetMapping
-    public ResponseEntity<CustomersProfileDTO> getCustomerInfo(Authentication authentication) {
+    public ResponseEntity<CustomersProfileDTO> getCustomerInfo(Authentication authentication,
+            ServletWebRequest request) {
         String customerId = authentication.getName();
 
-        CustomersProfileDTO cpd = customersService.getCustomerProfile(customerId);
+        return conditionalGet.respond("body", request, customersService.getProfileVersion(customerId), () -> {
+            CustomersProfileDTO cpd = customersService.getCustomerProfile(customerId);
 
-        if (cpd != null) {
-            return ResponseEntity.ok(cpd);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+            if (cpd != null) {
+                return ResponseEntity.ok(cpd);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        });
     }
 
     @PostMapping
@@ -45,21 +53,53 @@ public class GoalController {
             @RequestBody UpdateAccountRequest updateRequest,
             Authentication authentication) {
 
-        log.info("Received POST request for initial setup with data: {}", updateRequest);
+        log.debug("Received POST request for initial setup with data: {}", updateRequest);
         String customerId = authentication.getName();
 
         // 서비스 메서드 호출: 기존 프로필과 새로운 목표를 동시에 처리
-        customersService.updateProfileAndSaveGoal(customerId, updateRequest);
+        try {
+            customersService.updateProfileAndSaveGoal(customerId, updateRequest);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("다른 기기에서 먼저 수정되었습니다. 다시 시도해 주세요.");
+        }
 
         return ResponseEntity.ok("목표 설정 및 프로필 업데이트 완료");
     }
 
-    // 체중 히스토리 조회
+    // 체중 히스토리 조회 (GET /body/history?cursor=&size=) - 최신순 키셋 페이지
     @GetMapping("/history")
-    public ResponseEntity<List<BodyEntity>> getBodyHistory(Authentication authentication) {
+    public ResponseEntity<HistoryPageDTO<BodyHistoryItem>> getBodyHistory(Authentication authentication,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         String customerId = authentication.getName();
-        List<BodyEntity> bodyHistory = customersService.getBodyHistory(customerId);
-        return ResponseEntity.ok(bodyHistory);
+        try {
+            return ResponseEntity.ok(customersService.getBodyHistory(customerId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    // 체중 시계열 (GET /body/history/series?from=&to=&points=300) - 장기 차트용 다운샘플링
+    @GetMapping("/history/series")
+    public ResponseEntity<WeightSeriesDTO> getWeightSeries(Authentication authentication,
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to,
+            @RequestParam(value = "points", required = false) Integer points) {
+        try {
+            return ResponseEntity.ok(customersService.getWeightSeries(authentication.getName(), from, to, points));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 특정 날짜 체중 (GET /body/weight-at?date=2024-01-15) - 그날 또는 그 이전 가장 최근 기록, 없으면 404
+    @GetMapping("/weight-at")
+    public ResponseEntity<BodyHistoryItem> getWeightAt(Authentication authentication,
+            @RequestParam("date") String date) {
+        try {
+            return ResponseEntity.of(customersService.getWeightAt(authentication.getName(), date));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
-}
\ No newline at end of file
+}
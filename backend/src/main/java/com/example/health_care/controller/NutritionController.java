@@ -0,0 +1,37 @@
+package com.example.health_care.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.health_care.dto.NutritionTrendDTO;
+import com.example.health_care.service.NutritionRollupService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/nutrition")
+@RequiredArgsConstructor
+public class NutritionController {
+
+    private final NutritionRollupService nutritionRollupService;
+
+    // 섭취 추세 (GET /api/nutrition/trend?grain=week&from=2024-01-01&to=2024-03-31)
+    @GetMapping("/trend")
+    public ResponseEntity<NutritionTrendDTO> getTrend(Authentication authentication,
+            @RequestParam(value = "grain", defaultValue = "day") String grain,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to) {
+        try {
+            return ResponseEntity.ok(nutritionRollupService.getTrend(authentication.getName(), grain, from, to));
+        } catch (IllegalArgumentException e) {
+            log.warn("섭취 추세 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -5,9 +5,12 @@ import com.example.health_care.dto.UpdateAccountRequest;
 import com.example.health_care.service.CustomersService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -16,17 +19,21 @@ import org.springframework.web.bind.annotation.*;
 public class ProfileController {
 
     private final CustomersService customersService;
+    private final ConditionalGet conditionalGet;
 
-    // 프로필 정보 조회 API (GET api/profile)
+    // 프로필 정보 조회 API (GET api/profile) - If-None-Match 가 현재 버전이면 304
     @GetMapping
-    public ResponseEntity<CustomersProfileDTO> getCustomerProfile(Authentication authentication) {
+    public ResponseEntity<CustomersProfileDTO> getCustomerProfile(Authentication authentication,
+            ServletWebRequest request) {
         String customerId = authentication.getName();
-        CustomersProfileDTO cpd = customersService.getCustomerProfile(customerId);
-        if (cpd != null) {
-            return ResponseEntity.ok(cpd);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+        return conditionalGet.respond("profile", request, customersService.getProfileVersion(customerId), () -> {
+            CustomersProfileDTO cpd = customersService.getCustomerProfile(customerId);
+            if (cpd != null) {
+                return ResponseEntity.ok(cpd);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        });
     }
 
     // 프로필 및 목표 정보 수정 API (PUT api/profile)
@@ -35,7 +42,12 @@ public class ProfileController {
             @RequestBody UpdateAccountRequest updateRequest,
             Authentication authentication) {
         String customerId = authentication.getName();
-        customersService.updateProfileAndSaveGoal(customerId, updateRequest);
+        try {
+            customersService.updateProfileAndSaveGoal(customerId, updateRequest);
+        } catch (OptimisticLockingFailureException e) {
+            // 같은 프로필을 동시에 수정한 경우 (다시 조회 후 재시도)
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
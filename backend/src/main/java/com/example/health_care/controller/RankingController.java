@@ -1,12 +1,16 @@
 package com.example.health_care.controller;
 
-import com.example.health_care.dto.CustomersProfileDTO;
+import com.example.health_care.dto.RankingEntryDTO;
+import com.example.health_care.dto.RankingPageDTO;
 import com.example.health_care.service.RankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import java.util.List;
 
 @RestController
@@ -15,10 +19,31 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final ConditionalGet conditionalGet;
 
+    // 목표 달성률 랭킹 (GET /ranking?cursor=&size=) - 로그인한 경우 me 에 내 순위 포함
+    // 인덱스가 그대로면 304 (커서/크기는 URL 에 있으므로 버전에 넣지 않음)
     @GetMapping
-    public ResponseEntity<List<CustomersProfileDTO>> getAllCustomersProfile() {
-        List<CustomersProfileDTO> customers = rankingService.getAllCustomersProfile();
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<RankingPageDTO> getLeaderboard(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            Authentication authentication,
+            ServletWebRequest request) {
+        String customerId = authentication != null ? authentication.getName() : null;
+        return conditionalGet.respond("ranking", request, rankingService.getLeaderboardVersion(customerId), () -> {
+            try {
+                return ResponseEntity.ok(rankingService.getLeaderboard(cursor, size, customerId));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
-}
\ No newline at end of file
+
+    // 내 순위 주변 (GET /ranking/around?window=5) - 로그인 필요
+    @GetMapping("/around")
+    public ResponseEntity<List<RankingEntryDTO>> getNeighborhood(
+            @RequestParam(value = "window", required = false) Integer window,
+            Authentication authentication) {
+        return ResponseEntity.ok(rankingService.getNeighborhood(authentication.getName(), window));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.health_care.controller;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.health_care.dto.FoodDTO;
+import com.example.health_care.service.ReactiveFoodService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+// FoodController 의 리액티브 버전: Mono 를 반환하면 응답이 올 때까지 요청 스레드를 반납 (서블릿 비동기 처리)
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class ReactiveFoodController {
+
+    private final ReactiveFoodService service;
+
+    @GetMapping(value = "/api/food/public/search", produces = "application/json")
+    public Mono<List<FoodDTO>> search(
+            @RequestParam("name") String name,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "perPage", defaultValue = "10") int perPage) {
+        return service.searchSimple(name, page, perPage);
+    }
+}
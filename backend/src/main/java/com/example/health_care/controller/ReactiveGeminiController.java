@@ -0,0 +1,60 @@
+package com.example.health_care.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.dto.GeminiRequest;
+import com.example.health_care.entity.GeminiPrompts;
+import com.example.health_care.service.GeminiService;
+import com.example.health_care.service.ReactiveGeminiService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+// GeminiController 의 리액티브 버전 (응답 후처리는 GeminiService.toAnalysisJson 공용)
+@Slf4j
+@RestController
+@RequestMapping("/api/gemini")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class ReactiveGeminiController {
+
+    private final ReactiveGeminiService geminiService;
+    private final JsonCodecs codecs;
+
+    private Mono<ResponseEntity<String>> handleGeminiRequest(GeminiRequest request) {
+        return geminiService.callGeminiApi(request.getImageData(), request.getMimeType(), request.getPrompt())
+                .flatMap(response -> Mono.fromCallable(
+                        () -> ResponseEntity.ok(GeminiService.toAnalysisJson(codecs, response))))
+                .onErrorResume(e -> {
+                    log.error("Gemini 응답 처리 실패", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("Error processing Gemini response: " + e.getMessage()));
+                });
+    }
+
+    @PostMapping("/classify")
+    public Mono<ResponseEntity<String>> classifyImage(@RequestBody GeminiRequest request) {
+        request.setPrompt(GeminiPrompts.CLASSIFY_PROMPT);
+        return handleGeminiRequest(request);
+    }
+
+    @PostMapping("/packaged")
+    public Mono<ResponseEntity<String>> analyzePackaged(@RequestBody GeminiRequest request) {
+        request.setPrompt(GeminiPrompts.PACKAGED_PROMPT);
+        return handleGeminiRequest(request);
+    }
+
+    @PostMapping("/prepared")
+    public Mono<ResponseEntity<String>> analyzePrepared(@RequestBody GeminiRequest request) {
+        request.setPrompt(GeminiPrompts.PREPARED_PROMPT);
+        return handleGeminiRequest(request);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.health_care.controller;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.health_care.dto.YoutubeDTO;
+import com.example.health_care.service.ReactiveYoutubeService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+// YoutubeController 의 리액티브 버전
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class ReactiveYoutubeController {
+
+    private final ReactiveYoutubeService youtubeService;
+
+    @GetMapping("/youtube/search")
+    public Mono<ResponseEntity<List<YoutubeDTO>>> searchYoutube(@RequestParam("q") String q) {
+        // 검색어가 비어있으면 에러 반환
+        if (q == null || q.trim().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return youtubeService.searchVideos(q)
+                .map(ResponseEntity::ok)
+                .onErrorReturn(ResponseEntity.internalServerError().build());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.health_care.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.health_care.dto.HistoryPageDTO;
+import com.example.health_care.dto.RecordHistoryItem;
+import com.example.health_care.service.RecordService;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/record")
+public class RecordController {
+
+    private final RecordService recordService;
+
+    // 식단 기록 히스토리 (GET /record/history?cursor=&size=) - 최신순 키셋 페이지
+    @GetMapping("/history")
+    public ResponseEntity<HistoryPageDTO<RecordHistoryItem>> getRecordHistory(Authentication authentication,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(recordService.getRecordHistory(authentication.getName(), cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.health_care.controller;
 import com.example.health_care.dto.YoutubeDTO;
 import com.example.health_care.service.YoutubeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,6 +15,7 @@ import java.util.List;
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class YoutubeController {
 
     private final YoutubeService youtubeService;
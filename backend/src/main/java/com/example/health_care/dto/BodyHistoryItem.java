@@ -0,0 +1,8 @@
+package com.example.health_care.dto;
+
+import java.util.Date;
+
+// 체중 히스토리 1건 (차트에 쓰는 컬럼만 - JPQL 생성자 프로젝션)
+public record BodyHistoryItem(Long idx, Date recordDate, Double weight, Double height, Double inbody,
+        Double targetWeight, Integer targetCalories) {
+}
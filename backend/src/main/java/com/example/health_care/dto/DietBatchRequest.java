@@ -0,0 +1,24 @@
+package com.example.health_care.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 여러 음식을 한 번에 기록 (끼니/날짜가 섞여 있어도 됨)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DietBatchRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    @Valid
+    private List<DietRequest> items;
+}
@@ -0,0 +1,19 @@
+package com.example.health_care.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// POST /api/diet/batch 응답: 기록한 날짜별 저장 후 끼니별 합계 (날짜 오름차순)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DietBatchResultDTO {
+
+    private int saved; // 저장한 음식 수
+    private List<DietRangeDTO.Day> days;
+}
@@ -0,0 +1,36 @@
+package com.example.health_care.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// GET /api/diet/range 응답: 기간 내 칼로리 기록이 있는 날의 합계 (날짜 오름차순)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DietRangeDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<Day> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL) // meals=false 면 끼니별 값 생략
+    public static class Day {
+        private LocalDate date; // "2024-01-15"
+        private Long total;
+        private Long morning;
+        private Long lunch;
+        private Long dinner;
+    }
+}
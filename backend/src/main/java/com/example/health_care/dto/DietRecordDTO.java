@@ -0,0 +1,36 @@
+package com.example.health_care.dto;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// GET /api/diet/get 응답 (기존 RECORD 응답과 같은 필드명, mealDetails 는 JSON 문자열 대신 객체)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DietRecordDTO {
+
+    private Long idx;
+    private Date recordDate;
+    private Long caloriesM;
+    private Long caloriesL;
+    private Long caloriesD;
+    private Double targetWeight;
+    private Integer targetCalories;
+    private Map<String, List<MealItem>> mealDetails; // {"morning": [...], "lunch": [...], "dinner": [...]}
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MealItem {
+        private String food;
+        private Long calories;
+        private Long timestamp; // epoch millis
+    }
+}
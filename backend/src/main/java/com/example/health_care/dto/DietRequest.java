@@ -26,4 +26,6 @@ public class DietRequest {
     @NotNull
     @PositiveOrZero
     private Long calories; // 200
+
+    private Long timestamp; // 선택, 프론트에서 기록한 시각 (epoch millis)
 }
@@ -9,13 +9,14 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class FavoriteFoodInfoResponse {
     private Long idx;
     private String food;
     private Long calories;
+    private Long count; // 식단에 기록된 횟수
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
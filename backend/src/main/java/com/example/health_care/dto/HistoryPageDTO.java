@@ -0,0 +1,16 @@
+package com.example.health_care.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+// (record_date, idx) 키셋 페이지 (최신순)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistoryPageDTO<T> {
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+}
@@ -0,0 +1,40 @@
+package com.example.health_care.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// GET /api/nutrition/trend 응답: 일/주/월 구간별 섭취 칼로리와 목표 달성률
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutritionTrendDTO {
+
+    private String grain; // day | week | month
+    private LocalDate from;
+    private LocalDate to;
+    private Integer targetCalories; // 현재 목표 칼로리
+    private List<Bucket> buckets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDate start; // 구간 시작일 (주 = 월요일, 월 = 1일)
+        private Long calories;
+        private Long morning;
+        private Long lunch;
+        private Long dinner;
+        private Long items;
+        private Integer daysLogged;
+        private Integer daysOnTarget;
+        private Double averageCalories; // 기록한 날 기준 하루 평균
+        private Double adherence; // daysOnTarget / daysLogged
+    }
+}
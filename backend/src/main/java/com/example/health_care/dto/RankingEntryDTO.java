@@ -0,0 +1,22 @@
+package com.example.health_care.dto;
+
+import com.example.health_care.entity.Gender;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingEntryDTO {
+    private Long rank;
+    private String id;
+    private Double progress; // 목표 달성률 (0.0 ~ 1.0)
+    private Double weight;
+    private Double startWeight;
+    private Integer age;
+    private Gender gender;
+    private Double height;
+    private Double targetWeight;
+    private Integer targetCalories;
+}
@@ -0,0 +1,16 @@
+package com.example.health_care.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingPageDTO {
+    private List<RankingEntryDTO> content;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private RankingEntryDTO me; // 로그인한 경우 내 순위
+}
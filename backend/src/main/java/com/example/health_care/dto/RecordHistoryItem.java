@@ -0,0 +1,8 @@
+package com.example.health_care.dto;
+
+import java.util.Date;
+
+// 식단 기록 히스토리 1건 (meal_details LOB 제외 - JPQL 생성자 프로젝션)
+public record RecordHistoryItem(Long idx, Date recordDate, Long caloriesM, Long caloriesL, Long caloriesD,
+        Double targetWeight, Integer targetCalories) {
+}
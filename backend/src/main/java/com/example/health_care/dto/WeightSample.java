@@ -0,0 +1,7 @@
+package com.example.health_care.dto;
+
+import java.util.Date;
+
+// 체중 시계열 조회용 프로젝션 (날짜, 체중만)
+public record WeightSample(Date recordDate, Double weight) {
+}
@@ -0,0 +1,23 @@
+package com.example.health_care.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.*;
+
+// GET /body/history/series 응답: 기간 내 체중 시계열 (points 개 이하로 다운샘플링)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeightSeriesDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private int rawCount; // 다운샘플링 전 점 개수
+    private List<Point> points;
+
+    // t = record_date (epoch millis)
+    public record Point(long t, double weight) {
+    }
+}
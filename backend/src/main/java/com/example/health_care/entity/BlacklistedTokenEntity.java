@@ -12,7 +12,7 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "blacklisted_tokens")
-@SequenceGenerator(name = "blk_tok_seq_gen", sequenceName = "BLK_TOK_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "blk_tok_seq_gen", sequenceName = "BLK_TOK_SEQ", allocationSize = 50)
 public class BlacklistedTokenEntity {
 
     @Id
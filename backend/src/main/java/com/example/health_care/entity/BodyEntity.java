@@ -3,6 +3,8 @@ package com.example.health_care.entity;
 import lombok.*;
 import java.util.Date;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.example.health_care.entity.Gender;
 
 @Getter
@@ -12,11 +14,13 @@ import com.example.health_care.entity.Gender;
 @AllArgsConstructor
 @Entity
 @Table(name = "body")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "body")
 public class BodyEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "body_seq_generator")
-    @SequenceGenerator(name = "body_seq_generator", sequenceName = "BODY_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "body_seq_generator", sequenceName = "BODY_SEQ", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
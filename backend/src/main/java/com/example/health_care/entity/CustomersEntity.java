@@ -2,6 +2,12 @@ package com.example.health_care.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
 import com.example.health_care.entity.Gender;
 
 @Getter
@@ -11,17 +17,24 @@ import com.example.health_care.entity.Gender;
 @AllArgsConstructor
 @Entity
 @Table(name = "customers")
+// 2차 캐시: idx 조회와 id(이메일) 자연키 조회 모두 캐시에서 처리
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+@NaturalIdCache(region = "customers-natural-id")
 public class CustomersEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_seq")
-    @SequenceGenerator(name = "customers_seq", sequenceName = "CUSTOMERS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "customers_seq", sequenceName = "CUSTOMERS_SEQ", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
+    @NaturalId
     @Column(name = "id", length = 100, nullable = false, updatable = false, unique = true)
     private String id;
 
+    // 비밀번호는 프로필 응답에 없으므로 변경해도 version 을 올리지 않음 (로그인 시 해시 업그레이드와 충돌 방지)
+    @OptimisticLock(excluded = true)
     @Column(name = "password", length = 255, nullable = false) // length 60 -> 50 수정
     private String password;
 
@@ -37,6 +50,12 @@ public class CustomersEntity {
 
     @Column(name = "height")
     private Double height;
+
+    // 프로필 / 목표가 바뀔 때마다 증가 (GET /api/profile, /body 의 ETag)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
 /*tlqkf */
 /*..? */
\ No newline at end of file
@@ -10,9 +10,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,11 +28,14 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "favorite_food_info")
+@Table(name = "favorite_food_info",
+        uniqueConstraints = @UniqueConstraint(name = "uk_favorite_food", columnNames = { "customer_id", "food_name", "calories" }),
+        indexes = @Index(name = "idx_favorite_customer_created", columnList = "customer_id, created_at"))
 public class FavoriteFoodInfoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "favorite_food_info_seq_generator")
+    @SequenceGenerator(name = "favorite_food_info_seq_generator", sequenceName = "FAVORITE_FOOD_INFO_SEQ", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
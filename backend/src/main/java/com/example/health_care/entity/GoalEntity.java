@@ -2,6 +2,10 @@ package com.example.health_care.entity;
 
 import java.util.Date;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -25,11 +29,13 @@ import lombok.Setter;
 @AllArgsConstructor
 @Entity
 @Table(name = "goal")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "goal")
 public class GoalEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goal_seq_generator")
-    @SequenceGenerator(name = "goal_seq_generator", sequenceName = "GOAL_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "goal_seq_generator", sequenceName = "GOAL_SEQ", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
@@ -0,0 +1,66 @@
+package com.example.health_care.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 식단 기록 1건 = 음식 1개 (RECORD 의 meal_details JSON 을 대체, 추가만 함)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "meal_item", indexes = {
+        @Index(name = "idx_meal_item_record", columnList = "record_id, logged_at"),
+        @Index(name = "uk_meal_item_write_key", columnList = "write_key", unique = true) })
+public class MealItemEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_item_seq_generator")
+    @SequenceGenerator(name = "meal_item_seq_generator", sequenceName = "MEAL_ITEM_SEQ", allocationSize = 50)
+    @Column(name = "idx")
+    private Long idx;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "record_id", nullable = false)
+    private RecordEntity record;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private CustomersEntity customer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "meal_type", length = 10, nullable = false)
+    private MealType mealType;
+
+    @Column(name = "food_name", length = 100)
+    private String foodName;
+
+    @Column(name = "calories")
+    private Long calories;
+
+    @Column(name = "logged_at", nullable = false)
+    private LocalDateTime loggedAt;
+
+    // write-behind 저널 항목 id (재처리 중복 방지, 바로 저장한 항목은 null)
+    @Column(name = "write_key", length = 36)
+    private String writeKey;
+}
@@ -0,0 +1,21 @@
+package com.example.health_care.entity;
+
+// 식사 구분 (API / 기존 meal_details JSON 키는 소문자 morning, lunch, dinner)
+public enum MealType {
+    MORNING, LUNCH, DINNER;
+
+    public String key() {
+        return name().toLowerCase();
+    }
+
+    public static MealType from(String value) {
+        if (value != null) {
+            for (MealType type : values()) {
+                if (type.key().equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+        }
+        throw new IllegalArgumentException("잘못된 식사 타입입니다: " + value);
+    }
+}
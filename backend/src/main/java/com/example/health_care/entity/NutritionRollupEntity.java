@@ -0,0 +1,72 @@
+package com.example.health_care.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 고객별 일/주(ISO)/월 섭취 칼로리 롤업 (식단 저장과 같은 트랜잭션에서 증분 갱신)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "nutrition_rollup", uniqueConstraints = @UniqueConstraint(name = "uk_nutrition_rollup",
+        columnNames = { "customer_id", "grain", "bucket_start" }))
+public class NutritionRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "nutrition_rollup_seq_generator")
+    @SequenceGenerator(name = "nutrition_rollup_seq_generator", sequenceName = "NUTRITION_ROLLUP_SEQ", allocationSize = 50)
+    @Column(name = "idx")
+    private Long idx;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private CustomersEntity customer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "grain", length = 5, nullable = false)
+    private RollupGrain grain;
+
+    // 구간 시작일 (일 = 그날, 주 = 월요일, 월 = 1일)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "calories_m", nullable = false)
+    private Long caloriesM;
+
+    @Column(name = "calories_l", nullable = false)
+    private Long caloriesL;
+
+    @Column(name = "calories_d", nullable = false)
+    private Long caloriesD;
+
+    // 기록된 음식 수 (meal_item 기준)
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+
+    // 칼로리가 기록된 날 수 / 그중 목표 칼로리 이하였던 날 수
+    @Column(name = "days_logged", nullable = false)
+    private Integer daysLogged;
+
+    @Column(name = "days_on_target", nullable = false)
+    private Integer daysOnTarget;
+}
@@ -2,6 +2,7 @@ package com.example.health_care.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -14,11 +15,13 @@ import java.util.Date;
 @Builder
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "record")
+@Table(name = "record", uniqueConstraints = @UniqueConstraint(name = "uk_record_customer_date",
+        columnNames = { "customer_id", "record_date" }))
 public class RecordEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "record_seq_generator")
+    @SequenceGenerator(name = "record_seq_generator", sequenceName = "RECORD_SEQ", allocationSize = 50)
     @Column(name = "idx", nullable = false)
     private Long idx;
 
@@ -39,7 +42,7 @@ public class RecordEntity {
     @Column(name = "caloriesd")
     private Long caloriesD;
 
-    // 기존 아침,점심,저녁 데이터가 들어가는 필드
+    // 기존 아침,점심,저녁 데이터가 들어가는 필드 (현재는 meal_item 테이블 사용, 백필이 끝나면 null)
     @Lob
     @Column(name = "meal_details")
     private String mealDetails;
@@ -51,4 +54,10 @@ public class RecordEntity {
     @Column(name = "target_calories")
     private Integer targetCalories;
 
+    // 낙관적 락 (식단 MERGE 도 함께 증가시킴)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
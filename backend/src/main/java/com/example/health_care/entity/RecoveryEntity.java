@@ -8,6 +8,7 @@ import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
@@ -36,7 +37,8 @@ import lombok.AllArgsConstructor;
 public class RecoveryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recovery_seq_generator")
+    @SequenceGenerator(name = "recovery_seq_generator", sequenceName = "RECOVERY_SEQ", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
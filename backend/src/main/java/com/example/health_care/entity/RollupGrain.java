@@ -0,0 +1,28 @@
+package com.example.health_care.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+// 영양 롤업 집계 단위 (주는 ISO 주: 월요일 시작)
+public enum RollupGrain {
+    DAY, WEEK, MONTH;
+
+    // date 가 속한 구간의 시작일
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public static RollupGrain from(String value) {
+        for (RollupGrain grain : values()) {
+            if (grain.name().equalsIgnoreCase(value)) {
+                return grain;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 집계 단위입니다: " + value);
+    }
+}
@@ -1,17 +1,69 @@
 package com.example.health_care.repository;
 
 import java.util.*;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import java.util.stream.Stream;
+import com.example.health_care.dto.BodyHistoryItem;
+import com.example.health_care.dto.WeightSample;
 import com.example.health_care.entity.BodyEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BodyRepository extends JpaRepository<BodyEntity, Long> {
     // 고객 ID(customer_id)로 body 엔티티를 찾아오는 메서드
     List<BodyEntity> findByCustomerId(String customerId);
      // 최신 1건 (가장 큰 idx = 가장 최근이라고 가정)
+     // 쿼리 캐시 사용 - body 테이블에 쓰기가 발생하면 Hibernate가 결과를 자동 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "latest-body")
+    })
     Optional<BodyEntity> findTopByCustomer_IdxOrderByIdxDesc(Long customerIdx);
     // 이력 전체 (최신순)
     List<BodyEntity> findByCustomer_IdxOrderByIdxDesc(Long customerIdx);
 
     // 체중 히스토리 조회 (최신순)
     List<BodyEntity> findByCustomer_IdxOrderByRecordDateDesc(Long customerIdx);
+
+    // 체중 히스토리 키셋 페이지 (record_date, idx) 내림차순 - 차트 컬럼만 조회
+    @Query("""
+            select new com.example.health_care.dto.BodyHistoryItem(
+                   b.idx, b.recordDate, b.weight, b.height, b.inbody, b.targetWeight, b.targetCalories)
+              from BodyEntity b
+             where b.customer.idx = :customerIdx
+               and (b.recordDate < :afterDate or (b.recordDate = :afterDate and b.idx < :afterIdx))
+             order by b.recordDate desc, b.idx desc
+            """)
+    List<BodyHistoryItem> findHistoryPage(@Param("customerIdx") Long customerIdx,
+            @Param("afterDate") Date afterDate, @Param("afterIdx") Long afterIdx, Pageable pageable);
+
+    // 체중 시계열 [fromDate, toExclusive) 오름차순 - 다운샘플링용으로 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.example.health_care.dto.WeightSample(b.recordDate, b.weight)
+              from BodyEntity b
+             where b.customer.idx = :customerIdx
+               and b.weight is not null
+               and b.recordDate >= :fromDate and b.recordDate < :toExclusive
+             order by b.recordDate asc, b.idx asc
+            """)
+    Stream<WeightSample> streamWeights(@Param("customerIdx") Long customerIdx, @Param("fromDate") Date fromDate,
+            @Param("toExclusive") Date toExclusive);
+
+    // 시점 조회: before 이전 가장 최근 체중 1건 (history 인덱스 역방향 1행)
+    @Query("""
+            select new com.example.health_care.dto.BodyHistoryItem(
+                   b.idx, b.recordDate, b.weight, b.height, b.inbody, b.targetWeight, b.targetCalories)
+              from BodyEntity b
+             where b.customer.idx = :customerIdx
+               and b.weight is not null
+               and b.recordDate < :before
+             order by b.recordDate desc, b.idx desc
+            """)
+    List<BodyHistoryItem> findLatestBefore(@Param("customerIdx") Long customerIdx, @Param("before") Date before,
+            Pageable pageable);
 }
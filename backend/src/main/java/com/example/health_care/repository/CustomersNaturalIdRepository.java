@@ -0,0 +1,13 @@
+package com.example.health_care.repository;
+
+import java.util.Optional;
+
+import com.example.health_care.entity.CustomersEntity;
+
+// id(이메일) 조회를 파생 쿼리 대신 Hibernate 자연키 조회로 처리 (자연키 캐시 → 엔티티 캐시 순으로 확인)
+public interface CustomersNaturalIdRepository {
+    Optional<CustomersEntity> findById(String id);
+
+    // 고객 행은 그대로 두고 version 만 올림 (목표처럼 다른 테이블에 저장되지만 프로필 응답에 들어가는 값이 바뀐 경우)
+    void incrementVersion(CustomersEntity customer);
+}
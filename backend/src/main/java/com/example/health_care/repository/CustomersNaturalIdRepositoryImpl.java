@@ -0,0 +1,39 @@
+package com.example.health_care.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.health_care.entity.CustomersEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+public class CustomersNaturalIdRepositoryImpl implements CustomersNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 트랜잭션 밖(JWT 필터 등)에서 호출돼도 Session 을 안전하게 사용하도록 트랜잭션에 참여
+    // 로그인/인증/본인 확인 조회라서 readOnly 로 두지 않음: readOnly 면 복제본으로 라우팅돼 가입 직후 로그인이나
+    // 비밀번호 변경 직후 인증이 지연 동안 실패하고, 자연키 캐시도 쓰지 않음 (ReplicaCacheModeJpaDialect)
+    // 캐시 적중 시에는 커넥션을 꺼내지 않음 (LazyConnectionDataSourceProxy)
+    @Override
+    @Transactional
+    public Optional<CustomersEntity> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomersEntity.class)
+                .loadOptional(id);
+    }
+
+    @Override
+    @Transactional
+    public void incrementVersion(CustomersEntity customer) {
+        entityManager.lock(customer, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+}
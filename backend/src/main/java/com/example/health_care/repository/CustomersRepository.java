@@ -1,12 +1,17 @@
 package com.example.health_care.repository;
 
-import com.example.health_care.entity.CustomersEntity;
+import java.util.List;
 
-import java.util.Optional;
+import com.example.health_care.entity.CustomersEntity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface CustomersRepository extends JpaRepository<CustomersEntity, Long> {
-     Optional<CustomersEntity> findById(String id);
+// findById(String) 은 CustomersNaturalIdRepositoryImpl 에서 자연키 캐시를 통해 조회
+public interface CustomersRepository extends JpaRepository<CustomersEntity, Long>, CustomersNaturalIdRepository {
      boolean existsById(String id);
+
+     // 배치 작업용 전체 고객 idx
+     @Query("select c.idx from CustomersEntity c order by c.idx")
+     List<Long> findAllIdx();
 }
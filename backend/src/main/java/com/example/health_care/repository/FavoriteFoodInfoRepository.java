@@ -1,22 +1,79 @@
 package com.example.health_care.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.health_care.entity.FavoriteFoodInfoEntity;
 
-public interface FavoriteFoodInfoRepository extends JpaRepository<FavoriteFoodInfoEntity, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface FavoriteFoodInfoRepository extends JpaRepository<FavoriteFoodInfoEntity, Long>, FavoriteUsageRepository {
 
     // 사용자별 즐겨찾기 조회 (최신순)
     List<FavoriteFoodInfoEntity> findByCustomer_IdxOrderByCreatedAtDesc(Long customerIdx);
-    
-    // 즐겨찾기 중복 체크
-    boolean existsByCustomer_IdxAndFoodNameAndCalories(Long customerIdx, String foodName, Integer calories);
 
-    // 사용자별 즐겨찾기 개수 조회
-    long countByCustomer_Idx(Long customerIdx);
+    // 즐겨찾기 추가 (고객당 capacity 개 링 버퍼) - 추가된 행 수 반환, 이미 같은 (음식, 칼로리) 가 있으면 0
+    // 고객 행을 먼저 잠가서 같은 고객의 추가를 직렬화 (개수 확인과 교체 사이에 다른 추가가 끼면 capacity 를 넘음)
+    // 가득 찼으면 가장 오래된 행을 지우고 새 idx 로 추가 (행을 덮어쓰면 이전 음식의 idx 가 새 음식을 가리킴)
+    @Transactional
+    default int addToRing(Long customerIdx, String foodName, Integer calories, LocalDateTime createdAt, int capacity) {
+        if (lockCustomer(customerIdx) == null) {
+            return 0;
+        }
+        evictOldest(customerIdx, foodName, calories, capacity);
+        return insertFavorite(customerIdx, foodName, calories, createdAt);
+    }
+
+    @Query(value = "SELECT idx FROM customers WHERE idx = :customerIdx FOR UPDATE", nativeQuery = true)
+    Long lockCustomer(@Param("customerIdx") Long customerIdx);
+
+    // 가득 찼고 추가할 음식이 아직 없을 때만 가장 오래된 1개 삭제
+    // native DML 이 2차 캐시 전체를 비우지 않도록 영향받는 테이블을 지정
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "favorite_food_info"))
+    @Query(value = """
+            DELETE FROM favorite_food_info
+             WHERE idx = (SELECT o.idx FROM favorite_food_info o
+                           WHERE o.customer_id = :customerIdx
+                           ORDER BY o.created_at, o.idx
+                           FETCH FIRST 1 ROWS ONLY)
+               AND (SELECT COUNT(*) FROM favorite_food_info c
+                     WHERE c.customer_id = :customerIdx) >= :capacity
+               AND NOT EXISTS (SELECT 1 FROM favorite_food_info d
+                                WHERE d.customer_id = :customerIdx
+                                  AND d.food_name = :foodName
+                                  AND d.calories = :calories)
+            """, nativeQuery = true)
+    int evictOldest(@Param("customerIdx") Long customerIdx, @Param("foodName") String foodName,
+            @Param("calories") Integer calories, @Param("capacity") int capacity);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "favorite_food_info"))
+    @Query(value = """
+            INSERT INTO favorite_food_info (idx, customer_id, food_name, calories, count, created_at)
+            SELECT favorite_food_info_seq.NEXTVAL, :customerIdx, :foodName, :calories, 0, :createdAt
+              FROM dual
+             WHERE NOT EXISTS (SELECT 1 FROM favorite_food_info d
+                                WHERE d.customer_id = :customerIdx
+                                  AND d.food_name = :foodName
+                                  AND d.calories = :calories)
+            """, nativeQuery = true)
+    int insertFavorite(@Param("customerIdx") Long customerIdx, @Param("foodName") String foodName,
+            @Param("calories") Integer calories, @Param("createdAt") LocalDateTime createdAt);
 
-    // 50개 제한 시 가장 오래된 즐겨찾기 삭제를 위한 조회 (오래된순)
-    List<FavoriteFoodInfoEntity> findByCustomer_IdxOrderByCreatedAtAsc(Long customerIdx);
+    // 본인 즐겨찾기만 삭제 (조회 없이 1문장, 삭제된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("delete from FavoriteFoodInfoEntity f where f.idx = :idx and f.customer.idx = :customerIdx")
+    int deleteByIdxAndCustomerIdx(@Param("idx") Long idx, @Param("customerIdx") Long customerIdx);
 }
@@ -0,0 +1,14 @@
+package com.example.health_care.repository;
+
+import java.util.List;
+
+// 즐겨찾기 사용 횟수 일괄 반영 (메모리 카운터 flush 용)
+public interface FavoriteUsageRepository {
+
+    // 음식 1건의 누적 사용 횟수 증가분 (고객 + 음식명 + 칼로리 = 즐겨찾기 1건)
+    record UsageDelta(Long customerIdx, String foodName, Integer calories, long delta) {
+    }
+
+    // JDBC 배치 1번으로 count 증가. 즐겨찾기가 아닌 음식은 0행 갱신으로 무시됨
+    void addUsageCounts(List<UsageDelta> deltas);
+}
@@ -0,0 +1,42 @@
+package com.example.health_care.repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class FavoriteUsageRepositoryImpl implements FavoriteUsageRepository {
+
+    private static final String ADD_USAGE = """
+            UPDATE favorite_food_info
+               SET count = NVL(count, 0) + ?
+             WHERE customer_id = ? AND food_name = ? AND calories = ?
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void addUsageCounts(List<UsageDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ADD_USAGE)) {
+                for (UsageDelta d : deltas) {
+                    ps.setLong(1, d.delta());
+                    ps.setLong(2, d.customerIdx());
+                    ps.setString(3, d.foodName());
+                    ps.setInt(4, d.calories());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.health_care.repository;
 
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import com.example.health_care.entity.GoalEntity;
 
 public interface GoalRepository extends JpaRepository <GoalEntity, Long> {
 
     // 고객이 목표를 최초 설정 한 후 다시 수정했을 때 최신 목표 가져오기
     // 💡 추가: 고객의 가장 최신 목표 1건만 가져오는 메서드
+    // 쿼리 캐시 사용 - goal 테이블에 쓰기가 발생하면 Hibernate가 결과를 자동 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "latest-goal")
+    })
     Optional<GoalEntity> findTopByCustomer_IdxOrderByIdxDesc(Long customerIdx);
     
     Optional<GoalEntity> findByCustomer_Idx(Long idx);
@@ -0,0 +1,36 @@
+package com.example.health_care.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.health_care.entity.MealItemEntity;
+
+public interface MealItemRepository extends JpaRepository<MealItemEntity, Long> {
+
+    // 특정 RECORD(하루)의 음식 목록 (기록 순)
+    List<MealItemEntity> findByRecord_IdxOrderByLoggedAtAscIdxAsc(Long recordIdx);
+
+    // write-behind 저널 재처리: 이미 저장된 항목 id
+    @Query("select mi.writeKey from MealItemEntity mi where mi.writeKey in :writeKeys")
+    List<String> findWriteKeys(@Param("writeKeys") Collection<String> writeKeys);
+
+    // 롤업 재구성용: 날짜별 음식 수
+    @Query(value = """
+            SELECT TRUNC(r.record_date) AS "day", COUNT(*) AS "items"
+              FROM meal_item mi
+              JOIN record r ON r.idx = mi.record_id
+             WHERE mi.customer_id = :customerIdx
+             GROUP BY TRUNC(r.record_date)
+            """, nativeQuery = true)
+    List<DailyItemCountRow> countDailyItems(@Param("customerIdx") Long customerIdx);
+
+    interface DailyItemCountRow {
+        java.util.Date getDay();
+
+        Long getItems();
+    }
+}
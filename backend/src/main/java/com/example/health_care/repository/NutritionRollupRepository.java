@@ -0,0 +1,81 @@
+package com.example.health_care.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.health_care.entity.NutritionRollupEntity;
+import com.example.health_care.entity.RollupGrain;
+
+import jakarta.persistence.QueryHint;
+
+public interface NutritionRollupRepository extends JpaRepository<NutritionRollupEntity, Long> {
+
+    // 일/주/월 3개 구간에 칼로리·음식 수를 한 문장으로 더함 (없으면 생성)
+    // 같은 구간 행을 동시에 처음 만들면 uk_nutrition_rollup 위반 -> 호출한 서비스가 트랜잭션을 새로 시작해 재시도
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "nutrition_rollup"))
+    @Query(value = """
+            MERGE INTO nutrition_rollup n
+            USING (SELECT CAST(:customerIdx AS NUMBER(19)) AS customer_id, 'DAY' AS grain,
+                          CAST(:day AS DATE) AS bucket_start FROM dual
+                   UNION ALL
+                   SELECT CAST(:customerIdx AS NUMBER(19)), 'WEEK', CAST(:week AS DATE) FROM dual
+                   UNION ALL
+                   SELECT CAST(:customerIdx AS NUMBER(19)), 'MONTH', CAST(:month AS DATE) FROM dual) s
+               ON (n.customer_id = s.customer_id AND n.grain = s.grain AND n.bucket_start = s.bucket_start)
+             WHEN MATCHED THEN UPDATE
+                  SET n.calories_m = n.calories_m + :morning,
+                      n.calories_l = n.calories_l + :lunch,
+                      n.calories_d = n.calories_d + :dinner,
+                      n.item_count = n.item_count + :items
+             WHEN NOT MATCHED THEN
+                  INSERT (idx, customer_id, grain, bucket_start, calories_m, calories_l, calories_d,
+                          item_count, days_logged, days_on_target)
+                  VALUES (nutrition_rollup_seq.NEXTVAL, s.customer_id, s.grain, s.bucket_start,
+                          :morning, :lunch, :dinner, :items, 0, 0)
+            """, nativeQuery = true)
+    int addCalories(@Param("customerIdx") Long customerIdx, @Param("day") LocalDate day,
+            @Param("week") LocalDate week, @Param("month") LocalDate month,
+            @Param("morning") long morning, @Param("lunch") long lunch, @Param("dinner") long dinner,
+            @Param("items") long items);
+
+    // 하루 합계 (addCalories 직후 같은 트랜잭션에서 읽으므로 해당 행은 이미 잠겨 있음)
+    @Query("""
+            select n.caloriesM + n.caloriesL + n.caloriesD from NutritionRollupEntity n
+             where n.customer.idx = :customerIdx
+               and n.grain = com.example.health_care.entity.RollupGrain.DAY
+               and n.bucketStart = :day
+            """)
+    Optional<Long> findDayTotal(@Param("customerIdx") Long customerIdx, @Param("day") LocalDate day);
+
+    // 기록일 수 / 목표 달성일 수 변화는 일·주·월 3개 행에 함께 반영
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update NutritionRollupEntity n
+               set n.daysLogged = n.daysLogged + :daysLogged,
+                   n.daysOnTarget = n.daysOnTarget + :daysOnTarget
+             where n.customer.idx = :customerIdx
+               and ((n.grain = com.example.health_care.entity.RollupGrain.DAY and n.bucketStart = :day)
+                 or (n.grain = com.example.health_care.entity.RollupGrain.WEEK and n.bucketStart = :week)
+                 or (n.grain = com.example.health_care.entity.RollupGrain.MONTH and n.bucketStart = :month))
+            """)
+    int addDays(@Param("customerIdx") Long customerIdx, @Param("day") LocalDate day,
+            @Param("week") LocalDate week, @Param("month") LocalDate month,
+            @Param("daysLogged") int daysLogged, @Param("daysOnTarget") int daysOnTarget);
+
+    // 추세 조회: (customer_id, grain, bucket_start) 유니크 인덱스 범위 스캔
+    List<NutritionRollupEntity> findByCustomer_IdxAndGrainAndBucketStartBetweenOrderByBucketStartAsc(
+            Long customerIdx, RollupGrain grain, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from NutritionRollupEntity n where n.customer.idx = :customerIdx")
+    int deleteByCustomerIdx(@Param("customerIdx") Long customerIdx);
+}
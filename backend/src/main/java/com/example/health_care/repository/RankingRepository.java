@@ -0,0 +1,121 @@
+package com.example.health_care.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.health_care.entity.CustomersEntity;
+
+// 랭킹(리더보드) 조회 전용 - 고객별 최신 body/goal 을 윈도 함수로 한 번에 집계
+public interface RankingRepository extends Repository<CustomersEntity, Long> {
+
+    // score = 목표 달성률 (시작 체중 → 목표 체중 중 현재까지 이동한 비율, 0~10000 정수)
+    String PROGRESSED = """
+            WITH latest_body AS (
+                SELECT b.customer_id, b.weight, b.target_weight, b.target_calories,
+                       ROW_NUMBER() OVER (PARTITION BY b.customer_id ORDER BY b.idx DESC) AS rn,
+                       FIRST_VALUE(b.weight) OVER (PARTITION BY b.customer_id ORDER BY b.idx) AS start_weight
+                  FROM body b
+                 WHERE b.weight IS NOT NULL
+            ),
+            latest_goal AS (
+                SELECT g.customer_id, g.target_weight, g.target_calories,
+                       ROW_NUMBER() OVER (PARTITION BY g.customer_id ORDER BY g.idx DESC) AS rn
+                  FROM goal g
+            ),
+            scored AS (
+                SELECT c.idx AS customer_idx, c.id AS customer_id, c.age, c.gender, c.height,
+                       lb.weight, lb.start_weight,
+                       COALESCE(lg.target_weight, lb.target_weight) AS target_weight,
+                       COALESCE(lg.target_calories, lb.target_calories) AS target_calories
+                  FROM customers c
+                  JOIN latest_body lb ON lb.customer_id = c.idx AND lb.rn = 1
+                  LEFT JOIN latest_goal lg ON lg.customer_id = c.idx AND lg.rn = 1
+            ),
+            progressed AS (
+                SELECT s.*,
+                       CASE WHEN s.target_weight IS NULL OR s.start_weight = s.target_weight THEN 0
+                            ELSE ROUND(LEAST(GREATEST((s.start_weight - s.weight)
+                                    / (s.start_weight - s.target_weight), 0), 1) * 10000)
+                       END AS score
+                  FROM scored s
+            )
+            """;
+
+    String COLUMNS = """
+            r.customer_idx AS "customerIdx", r.customer_id AS "customerId",
+            r.age AS "age", r.gender AS "gender", r.height AS "height",
+            r.weight AS "weight", r.start_weight AS "startWeight",
+            r.target_weight AS "targetWeight", r.target_calories AS "targetCalories",
+            r.score AS "score"
+            """;
+
+    String RANKED = PROGRESSED + """
+            , ranked AS (
+                SELECT p.*, RANK() OVER (ORDER BY p.score DESC) AS rnk
+                  FROM progressed p
+            )
+            SELECT
+            """ + COLUMNS + """
+            , r.rnk AS "rank"
+              FROM ranked r
+            """;
+
+    // 키셋 페이지네이션: (score DESC, customer_idx ASC) 기준으로 커서 다음 행부터 size 건
+    @Query(nativeQuery = true, value = RANKED + """
+             WHERE r.score < :afterScore
+                OR (r.score = :afterScore AND r.customer_idx > :afterIdx)
+             ORDER BY r.score DESC, r.customer_idx ASC
+             FETCH FIRST :size ROWS ONLY
+            """)
+    List<RankingRow> findPage(@Param("afterScore") long afterScore,
+            @Param("afterIdx") long afterIdx,
+            @Param("size") int size);
+
+    // 특정 고객의 순위
+    @Query(nativeQuery = true, value = RANKED + """
+             WHERE r.customer_id = :customerId
+            """)
+    Optional<RankingRow> findByCustomerId(@Param("customerId") String customerId);
+
+    // 전체 랭킹 (인메모리 리더보드 재구성용)
+    @Query(nativeQuery = true, value = RANKED + """
+             ORDER BY r.score DESC, r.customer_idx ASC
+            """)
+    List<RankingRow> findAllRanked();
+
+    // 고객 1명의 현재 점수 (순위 계산 없이 해당 고객 행만 집계)
+    @Query(nativeQuery = true, value = PROGRESSED + "SELECT " + COLUMNS + """
+            , CAST(NULL AS NUMBER) AS "rank"
+              FROM progressed r
+             WHERE r.customer_idx = :customerIdx
+            """)
+    Optional<RankingRow> findStanding(@Param("customerIdx") Long customerIdx);
+
+    interface RankingRow {
+        Long getCustomerIdx();
+
+        String getCustomerId();
+
+        Integer getAge();
+
+        String getGender();
+
+        Double getHeight();
+
+        Double getWeight();
+
+        Double getStartWeight();
+
+        Double getTargetWeight();
+
+        Integer getTargetCalories();
+
+        Long getScore();
+
+        Long getRank();
+    }
+}
@@ -1,11 +1,25 @@
 package com.example.health_care.repository;
 
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.health_care.dto.RecordHistoryItem;
 import com.example.health_care.entity.RecordEntity;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface RecordRepository extends JpaRepository<RecordEntity, Long> {
 
     // 고객 ID(customer_id)로 record 엔티티를 찾아오는 메서드
@@ -17,6 +31,100 @@ public interface RecordRepository extends JpaRepository<RecordEntity, Long> {
     // 이력 전체 (최신순)
     List<RecordEntity> findByCustomer_IdxOrderByIdxDesc(Long customerIdx);
 
+    // 식단 기록 히스토리 키셋 페이지 (record_date, idx) 내림차순 - meal_details LOB 제외
+    @Query("""
+            select new com.example.health_care.dto.RecordHistoryItem(
+                   r.idx, r.recordDate, r.caloriesM, r.caloriesL, r.caloriesD, r.targetWeight, r.targetCalories)
+              from RecordEntity r
+             where r.customer.idx = :customerIdx
+               and (r.recordDate < :afterDate or (r.recordDate = :afterDate and r.idx < :afterIdx))
+             order by r.recordDate desc, r.idx desc
+            """)
+    List<RecordHistoryItem> findHistoryPage(@Param("customerIdx") Long customerIdx,
+            @Param("afterDate") Date afterDate, @Param("afterIdx") Long afterIdx, Pageable pageable);
+
     // 특정 날짜 식단 조회
     List<RecordEntity> findByCustomer_IdxAndRecordDate(Long customerIdx, Date recordDate);
+
+    // 특정 날짜 RECORD 의 idx + 끼니별 합계 (meal_details LOB 을 읽지 않음)
+    @Query("""
+            select r.idx as idx, r.caloriesM as morning, r.caloriesL as lunch, r.caloriesD as dinner
+              from RecordEntity r
+             where r.customer.idx = :customerIdx and r.recordDate = :recordDate
+             order by r.idx
+            """)
+    List<DayTotalsRow> findDayTotals(@Param("customerIdx") Long customerIdx, @Param("recordDate") Date recordDate);
+
+    // 하루 1행 upsert: 없으면 생성, 있으면 끼니별 합계를 DB 에서 원자적으로 증가 + version 증가
+    // 동시에 둘 다 INSERT 로 가면 (customer_id, record_date) 유니크 위반 -> 서비스에서 재시도하면 UPDATE 로 처리됨
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "record"))
+    @Query(value = """
+            MERGE INTO record r
+            USING (SELECT CAST(:customerIdx AS NUMBER(19)) AS customer_id,
+                          CAST(:recordDate AS DATE) AS record_date
+                     FROM dual) s
+               ON (r.customer_id = s.customer_id AND r.record_date = s.record_date)
+             WHEN MATCHED THEN UPDATE
+                  SET r.caloriesm = NVL(r.caloriesm, 0) + :morning,
+                      r.caloriesl = NVL(r.caloriesl, 0) + :lunch,
+                      r.caloriesd = NVL(r.caloriesd, 0) + :dinner,
+                      r.version = NVL(r.version, 0) + 1
+             WHEN NOT MATCHED THEN
+                  INSERT (idx, customer_id, record_date, caloriesm, caloriesl, caloriesd, version)
+                  VALUES (record_seq.NEXTVAL, s.customer_id, s.record_date, :morning, :lunch, :dinner, 0)
+            """, nativeQuery = true)
+    int upsertDailyCalories(@Param("customerIdx") Long customerIdx, @Param("recordDate") Date recordDate,
+            @Param("morning") long morning, @Param("lunch") long lunch, @Param("dinner") long dinner);
+
+    // meal_item 으로 아직 옮기지 않은 RECORD (afterIdx 다음부터, 키셋 페이징)
+    @Query("select r.idx from RecordEntity r where r.mealDetails is not null and r.idx > :afterIdx order by r.idx")
+    List<Long> findIdxWithMealDetails(@Param("afterIdx") Long afterIdx, Pageable pageable);
+
+    // 백필: 옮기기 전에 행을 잠가 다른 인스턴스/겹친 실행이 같은 RECORD 를 동시에 옮기지 못하게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RecordEntity r where r.idx = :idx")
+    Optional<RecordEntity> findForBackfill(@Param("idx") Long idx);
+
+    // 아직 옮기지 않은 행만 비움 (1 이 아니면 이미 옮겨진 행)
+    @Modifying
+    @Query("update RecordEntity r set r.mealDetails = null where r.idx = :idx and r.mealDetails is not null")
+    int clearMealDetails(@Param("idx") Long idx);
+
+    // 기간 [from, toExclusive) 의 일별 끼니 합계 (DB 에서 날짜별 GROUP BY, 칼로리 기록이 있는 날만)
+    @Query(value = """
+            SELECT TRUNC(r.record_date) AS "day",
+                   SUM(NVL(r.caloriesm, 0)) AS "morning",
+                   SUM(NVL(r.caloriesl, 0)) AS "lunch",
+                   SUM(NVL(r.caloriesd, 0)) AS "dinner"
+              FROM record r
+             WHERE r.customer_id = :customerIdx
+               AND r.record_date >= :fromDate
+               AND r.record_date < :toExclusive
+               AND (r.caloriesm IS NOT NULL OR r.caloriesl IS NOT NULL OR r.caloriesd IS NOT NULL)
+             GROUP BY TRUNC(r.record_date)
+             ORDER BY TRUNC(r.record_date)
+            """, nativeQuery = true)
+    List<DailyCaloriesRow> sumDailyCalories(@Param("customerIdx") Long customerIdx,
+            @Param("fromDate") LocalDate fromDate, @Param("toExclusive") LocalDate toExclusive);
+
+    interface DailyCaloriesRow {
+        Date getDay();
+
+        Long getMorning();
+
+        Long getLunch();
+
+        Long getDinner();
+    }
+
+    interface DayTotalsRow {
+        Long getIdx();
+
+        Long getMorning();
+
+        Long getLunch();
+
+        Long getDinner();
+    }
 }
@@ -1,19 +1,21 @@
 package com.example.health_care.security;
 
-
-import java.util.Date;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.exc.StreamWriteException;
-import com.fasterxml.jackson.databind.DatabindException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.config.LogThrottle;
 
-import io.jsonwebtoken.io.IOException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -21,24 +23,47 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @Slf4j
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
-    
+
+    // 401 은 토큰 만료/미로그인 때마다 나오는 정상 응답이라 1분에 1줄만 남김
+    private final LogThrottle unauthorizedLog = new LogThrottle(Duration.ofMinutes(1));
+
+    // 401 본문은 timestamp 만 바뀌므로 나머지는 기동 시 직렬화해 두고 요청마다 timestamp(epoch millis) 만 이어 붙임
+    private final byte[] bodyPrefix;
+    private static final byte[] BODY_SUFFIX = { '}' };
+
+    public JwtAuthenticationEntryPoint(JsonCodecs codecs) {
+        Map<String, Object> errorDetails = new LinkedHashMap<>();
+        errorDetails.put("error", "Unauthorized");
+        errorDetails.put("message", "You need to login first");
+        errorDetails.put("status", 401);
+        byte[] fixed = codecs.preSerialize(errorDetails);
+        // 마지막 '}' 를 떼고 timestamp 필드를 연다
+        byte[] timestampField = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+        bodyPrefix = Arrays.copyOf(fixed, fixed.length - 1 + timestampField.length);
+        System.arraycopy(timestampField, 0, bodyPrefix, fixed.length - 1, timestampField.length);
+    }
+
     @Override
     public void commence(HttpServletRequest request,
                         HttpServletResponse response,
-                        AuthenticationException authException) throws IOException, StreamWriteException, DatabindException, java.io.IOException {
-        
-        log.error("Responding with unauthorized error. Message - {}", authException.getMessage());
-        
-        response.setContentType("application/json");
+                        AuthenticationException authException) throws IOException {
+
+        long suppressed = unauthorizedLog.tryAcquire();
+        if (suppressed >= 0) {
+            log.info("Responding with unauthorized error. uri={}, message={} (suppressed since last: {})",
+                    request.getRequestURI(), authException.getMessage(), suppressed);
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        
-        ObjectMapper mapper = new ObjectMapper();
-        Map<String, Object> errorDetails = new HashMap<>();
-        errorDetails.put("error", "Unauthorized");
-        errorDetails.put("message", "You need to login first");
-        errorDetails.put("timestamp", new Date());
-        errorDetails.put("status", 401);
-        
-        mapper.writeValue(response.getWriter(), errorDetails);
+        writeBody(response.getOutputStream(), System.currentTimeMillis());
+    }
+
+    // {"error":...,"message":...,"status":401,"timestamp":<millis>}
+    void writeBody(OutputStream out, long timestampMillis) throws IOException {
+        byte[] timestamp = Long.toString(timestampMillis).getBytes(StandardCharsets.US_ASCII);
+        out.write(bodyPrefix);
+        out.write(timestamp);
+        out.write(BODY_SUFFIX);
     }
 }
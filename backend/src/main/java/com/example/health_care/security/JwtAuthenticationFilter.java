@@ -1,6 +1,7 @@
 package com.example.health_care.security;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.health_care.config.LogThrottle;
 import com.example.health_care.service.TokenBlacklistService;
 
 import jakarta.servlet.FilterChain;
@@ -28,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final LogThrottle failureLog = new LogThrottle(Duration.ofMinutes(1));
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -63,7 +66,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             }
         } catch (Exception e) {
-            log.error("Could not set user authentication - {}", e.getMessage());
+            long suppressed = failureLog.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("Could not set user authentication - {} (suppressed since last: {})", e.getMessage(),
+                        suppressed);
+            }
         }
 
         filterChain.doFilter(request, response);
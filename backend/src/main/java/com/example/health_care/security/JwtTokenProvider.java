@@ -8,6 +8,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import com.example.health_care.config.LogThrottle;
 import com.example.health_care.service.CustomersService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -25,6 +26,9 @@ public class JwtTokenProvider {
     private static final String SECRET_KEY = "756be4cf9581add13ddb3ab3e2f1e75f27a0661af1c1225a89ef9a1d44d3f03b";
     private int jwtExpirationInMs = 24 * 60 * 60 * 1000;
 
+    // 위조/깨진 토큰은 한 번에 대량으로 들어올 수 있어 1분에 1줄만 남김
+    private static final LogThrottle INVALID_TOKEN_LOG = new LogThrottle(Duration.ofMinutes(1));
+
     private SecretKey getSecretKey() {
         return io.jsonwebtoken.security.Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
     }
@@ -67,18 +71,23 @@ public class JwtTokenProvider {
             SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
             Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(authToken);
             return true;
-        } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty");
+            // 만료는 정상 흐름 (클라이언트가 재로그인)
+            log.debug("Expired JWT token");
+        } catch (JwtException | IllegalArgumentException ex) {
+            // 형식 오류/미지원/서명 불일치/빈 토큰
+            warnInvalidToken(ex);
         }
         return false;
     }
 
+    private static void warnInvalidToken(Exception ex) {
+        long suppressed = INVALID_TOKEN_LOG.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("Invalid JWT token: {} (suppressed since last: {})", ex.getClass().getSimpleName(), suppressed);
+        }
+    }
+
     public String getUsername(String token) {
         try {
             return Jwts.parser()
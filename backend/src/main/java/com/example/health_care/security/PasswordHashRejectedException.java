@@ -0,0 +1,13 @@
+package com.example.health_care.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해싱 작업 큐가 가득 찼거나 대기 시간이 초과된 경우 (429 응답)
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashRejectedException extends RuntimeException {
+
+    public PasswordHashRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.health_care.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해싱 전용 PasswordEncoder.
+ * 해싱은 코어 수만큼의 전용 스레드 풀에서만 실행되고, 대기 큐가 가득 차면
+ * 요청 스레드를 붙잡아 두지 않고 바로 {@link PasswordHashRejectedException}(429)을 던집니다.
+ *
+ * strength 를 지정하지 않으면 기동 시 target-millis 에 맞춰 cost 를 보정하고,
+ * 더 낮은 cost 로 저장된 해시는 다음 로그인 성공 시 자동으로 다시 해싱됩니다 (upgradeEncoding).
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements PasswordEncoder, DisposableBean {
+
+    private static final int MIN_STRENGTH = 10; // BCryptPasswordEncoder 기본값
+    private static final int MAX_STRENGTH = 14;
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+            @Value("${security.password.hash.threads:0}") int threads,
+            @Value("${security.password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hash.timeout-ms:5000}") long timeoutMs,
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.target-millis:250}") long targetMillis) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new CustomizableThreadFactory("pw-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+
+        int resolvedStrength = strength > 0 ? strength : calibrate(targetMillis);
+        this.delegate = new BCryptPasswordEncoder(resolvedStrength);
+        log.info("[PW-HASH] pool={}, queue={}, bcrypt strength={}", poolSize, queueCapacity, resolvedStrength);
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("op", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .tag("op", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(submit(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 해시 문자열의 cost 만 비교하므로 풀을 거치지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 여러 값을 병렬로 해싱 (보안질문 답변 등), 입력 순서대로 반환
+    public List<String> encodeAll(List<? extends CharSequence> rawValues) {
+        List<Future<String>> futures = new ArrayList<>(rawValues.size());
+        for (CharSequence raw : rawValues) {
+            futures.add(submit(encodeTimer, () -> delegate.encode(raw)));
+        }
+        List<String> result = new ArrayList<>(futures.size());
+        for (Future<String> f : futures) {
+            result.add(await(f));
+        }
+        return result;
+    }
+
+    // 여러 (원문, 해시) 쌍을 병렬로 검증, 전부 일치해야 true
+    public boolean matchesAll(List<? extends CharSequence> rawValues, List<String> encodedValues) {
+        if (rawValues.size() != encodedValues.size()) {
+            throw new IllegalArgumentException("원문과 해시의 개수가 다릅니다.");
+        }
+        List<Future<Boolean>> futures = new ArrayList<>(rawValues.size());
+        for (int i = 0; i < rawValues.size(); i++) {
+            CharSequence raw = rawValues.get(i);
+            String encoded = encodedValues.get(i);
+            futures.add(submit(matchesTimer, () -> delegate.matches(raw, encoded)));
+        }
+        boolean allMatch = true;
+        for (Future<Boolean> f : futures) {
+            allMatch &= await(f); // 나머지 작업도 끝까지 기다려 풀에 고아 작업이 남지 않도록 함
+        }
+        return allMatch;
+    }
+
+    private <T> Future<T> submit(Timer timer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashRejectedException("요청이 많아 잠시 후 다시 시도해 주세요.", e);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashRejectedException("비밀번호 처리 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 현재 장비에서 해시 1회가 targetMillis 이하가 되는 최대 cost 를 찾음 (cost +1 = 시간 2배)
+    private static int calibrate(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("warmup-password");
+
+        long start = System.nanoTime();
+        probe.encode("calibration-password");
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && elapsedMs * 2 <= targetMillis) {
+            strength++;
+            elapsedMs *= 2;
+        }
+        return strength;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -1,20 +1,34 @@
 package com.example.health_care.service;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.health_care.dto.BodyHistoryItem;
 import com.example.health_care.dto.BodyRequest;
 import com.example.health_care.dto.CustomersProfileDTO;
+import com.example.health_care.dto.HistoryPageDTO;
 import com.example.health_care.dto.SignupRequest;
 import com.example.health_care.dto.UpdateAccountRequest;
+import com.example.health_care.dto.WeightSample;
+import com.example.health_care.dto.WeightSeriesDTO;
 import com.example.health_care.entity.BodyEntity;
 import com.example.health_care.entity.CustomersEntity;
 import com.example.health_care.entity.GoalEntity;
@@ -24,19 +38,26 @@ import com.example.health_care.repository.CustomersRepository;
 import com.example.health_care.repository.GoalRepository;
 import com.example.health_care.repository.RecordRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class CustomersService implements UserDetailsService {
+public class CustomersService implements UserDetailsService, UserDetailsPasswordService {
 
         private final CustomersRepository customersRepository;
         private final PasswordEncoder passwordEncoder;
         private final BodyRepository bodyRepository;
         private final GoalRepository goalRepository;
         private final RecordRepository recordRepository;
+        private final ApplicationEventPublisher eventPublisher;
+        private final MeterRegistry meterRegistry;
+
+        private static final int DEFAULT_SERIES_POINTS = 300;
+        private static final int MIN_SERIES_POINTS = 3;
+        private static final int MAX_SERIES_POINTS = 2000;
 
         @Transactional
         public CustomersEntity signup(SignupRequest req) {
@@ -67,6 +88,7 @@ public class CustomersService implements UserDetailsService {
                                 .build();
 
                 bodyRepository.save(bodyEntity);
+                eventPublisher.publishEvent(new RankingChangedEvent(savedUser.getIdx()));
 
                 return savedUser;
         }
@@ -83,7 +105,21 @@ public class CustomersService implements UserDetailsService {
                                 .build();
         }
 
-        @Transactional(readOnly = true)
+        // 로그인 성공 시 저장된 해시의 BCrypt cost 가 낮으면 스프링 시큐리티가 새 해시로 호출 (투명 업그레이드)
+        @Override
+        @Transactional
+        public UserDetails updatePassword(UserDetails user, String newEncodedPassword) {
+                CustomersEntity customer = customersRepository.findById(user.getUsername())
+                                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다 : " + user.getUsername()));
+                customer.setPassword(newEncodedPassword);
+                customersRepository.save(customer);
+                log.info("[LOGIN] password hash upgraded id={}", customer.getId());
+
+                return User.withUserDetails(user).password(newEncodedPassword).build();
+        }
+
+        // ETag 와 같은 시점의 값을 돌려줘야 하므로 primary 에서 읽음 (복제본이면 수정 직후 새 ETag 에 옛 본문이 묶일 수 있음)
+        @Transactional
         public CustomersProfileDTO getCustomerProfile(String customerId) {
                 // 1. 고객 기본 정보 조회
                 CustomersEntity customer = customersRepository.findById(customerId)
@@ -104,6 +140,15 @@ public class CustomersService implements UserDetailsService {
                                 .build();
         }
 
+        // GET /api/profile, /body 의 ETag 값. 목표 조회 / DTO 생성 없이 고객 version 만 봄 (2차 캐시 적중 시 DB 조회도 없음)
+        // 캐시 미스면 primary 에서 읽음 (기본 finder 는 읽기 전용이라 복제본으로 가서, 수정 직후 옛 버전으로 304 를 줄 수 있음)
+        @Transactional
+        public String getProfileVersion(String customerId) {
+                return customersRepository.findById(customerId)
+                                .map(c -> c.getIdx() + "." + c.getVersion())
+                                .orElse(null);
+        }
+
         @Transactional
         public void saveBodyInfo(String customerId, BodyRequest bodyRequest) {
                 // 1. customerId로 고객 엔티티를 찾음
@@ -125,6 +170,7 @@ public class CustomersService implements UserDetailsService {
 
                 // 3. Repository를 사용하여 데이터베이스에 저장
                 bodyRepository.save(bodyEntity);
+                eventPublisher.publishEvent(new RankingChangedEvent(customer.getIdx()));
         }
 
         @Transactional
@@ -182,7 +228,11 @@ public class CustomersService implements UserDetailsService {
                                         .caloriesD(null)
                                         .build();
                         recordRepository.save(recordEntity);
+                        // 고객 필드가 그대로여도 프로필 응답(목표)이 바뀌므로 ETag 용 version 을 올림
+                        customersRepository.incrementVersion(customer);
                 }
+                // 체중/키/나이/성별만 바뀌어도 랭킹 항목이 달라지므로 목표 여부와 관계없이 갱신
+                eventPublisher.publishEvent(new RankingChangedEvent(customer.getIdx()));
         }
 
         // >>> [ADDED] 복구/프로필 등에서 공용으로 쓰는 비밀번호 변경 유틸
@@ -194,15 +244,91 @@ public class CustomersService implements UserDetailsService {
                 customersRepository.save(user);
         }
 
-        // 체중 히스토리 조회 메소드
+        // 체중 히스토리 조회 메소드 (최신순 키셋 페이지, 차트 컬럼만)
         @Transactional(readOnly = true)
-        public List<BodyEntity> getBodyHistory(String customerId) {
+        public HistoryPageDTO<BodyHistoryItem> getBodyHistory(String customerId, String cursor, Integer size) {
+                HistoryCursor after = HistoryCursor.parse(cursor);
+                int pageSize = HistoryCursor.pageSize(size);
+
                 // 1단계: 이메일로 CUSTOMERS 엔티티 조회 (idx 얻기)
                 CustomersEntity customer = customersRepository.findById(customerId)
                                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
-                // 2단계: 얻은 idx로 BODY 테이블 조회
-                return bodyRepository.findByCustomer_IdxOrderByRecordDateDesc(customer.getIdx());
+                // 2단계: 얻은 idx로 BODY 테이블 조회 (조회 시간 / 페이지 행 수는 history.* 메트릭)
+                List<BodyHistoryItem> rows = meterRegistry.timer("history.query", "type", "body")
+                                .record(() -> bodyRepository.findHistoryPage(customer.getIdx(), after.recordDate(),
+                                                after.idx(), PageRequest.of(0, pageSize)));
+                meterRegistry.summary("history.page.rows", "type", "body").record(rows.size());
+
+                return HistoryCursor.page(rows, pageSize, BodyHistoryItem::recordDate, BodyHistoryItem::idx);
+        }
+
+        // 체중 시계열 (from ~ to, 양 끝 포함) - points 개 이하로 LTTB 다운샘플링
+        @Transactional(readOnly = true)
+        public WeightSeriesDTO getWeightSeries(String customerId, String from, String to, Integer points) {
+                LocalDate toDay = to == null ? LocalDate.now() : parseLocalDate(to);
+                LocalDate fromDay = from == null ? toDay.minusYears(1) : parseLocalDate(from);
+                if (toDay.isBefore(fromDay)) {
+                        throw new IllegalArgumentException("to 는 from 이후여야 합니다.");
+                }
+                int threshold = points == null ? DEFAULT_SERIES_POINTS
+                                : Math.min(Math.max(MIN_SERIES_POINTS, points), MAX_SERIES_POINTS);
+
+                CustomersEntity customer = customersRepository.findById(customerId)
+                                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+                // 원시 배열로 한 번 적재 후 한 번 훑어서 다운샘플링
+                long[] t = new long[256];
+                double[] w = new double[256];
+                int n = 0;
+                try (Stream<WeightSample> samples = bodyRepository.streamWeights(customer.getIdx(),
+                                toDate(fromDay), toDate(toDay.plusDays(1)))) {
+                        for (WeightSample sample : (Iterable<WeightSample>) samples::iterator) {
+                                if (n == t.length) {
+                                        t = Arrays.copyOf(t, n * 2);
+                                        w = Arrays.copyOf(w, n * 2);
+                                }
+                                t[n] = sample.recordDate().getTime();
+                                w[n] = sample.weight();
+                                n++;
+                        }
+                }
+
+                int[] selected = Downsampler.lttb(t, w, n, threshold);
+                List<WeightSeriesDTO.Point> series = new ArrayList<>(selected.length);
+                for (int i : selected) {
+                        series.add(new WeightSeriesDTO.Point(t[i], w[i]));
+                }
+
+                return WeightSeriesDTO.builder()
+                                .from(fromDay)
+                                .to(toDay)
+                                .rawCount(n)
+                                .points(series)
+                                .build();
+        }
+
+        // 시점 조회: date 당일(포함) 이전 가장 최근 체중 기록
+        @Transactional(readOnly = true)
+        public Optional<BodyHistoryItem> getWeightAt(String customerId, String date) {
+                LocalDate day = parseLocalDate(date);
+                CustomersEntity customer = customersRepository.findById(customerId)
+                                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+                return bodyRepository.findLatestBefore(customer.getIdx(), toDate(day.plusDays(1)), PageRequest.of(0, 1))
+                                .stream().findFirst();
+        }
+
+        private static Date toDate(LocalDate day) {
+                return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }
+
+        private static LocalDate parseLocalDate(String value) {
+                try {
+                        return LocalDate.parse(value);
+                } catch (DateTimeParseException e) {
+                        throw new IllegalArgumentException("잘못된 날짜 형식입니다.");
+                }
         }
 
 }
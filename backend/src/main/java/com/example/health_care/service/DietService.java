@@ -1,28 +1,46 @@
 package com.example.health_care.service;
 
+import com.example.health_care.dto.DietBatchResultDTO;
+import com.example.health_care.dto.DietRangeDTO;
+import com.example.health_care.dto.DietRecordDTO;
 import com.example.health_care.dto.DietRequest;
 import com.example.health_care.entity.CustomersEntity;
+import com.example.health_care.entity.MealItemEntity;
+import com.example.health_care.entity.MealType;
 import com.example.health_care.entity.RecordEntity;
 import com.example.health_care.repository.CustomersRepository;
+import com.example.health_care.repository.MealItemRepository;
 import com.example.health_care.repository.RecordRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import com.example.health_care.repository.RecordRepository.DailyCaloriesRow;
+import com.example.health_care.repository.RecordRepository.DayTotalsRow;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -31,149 +49,342 @@ public class DietService {
 
     private final CustomersRepository customersRepository;
     private final RecordRepository recordRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MealItemRepository mealItemRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final NutritionRollupService nutritionRollupService;
+    private final ObjectProvider<DietWriteBuffer> writeBuffer; // diet.write-behind.enabled=true 일 때만 존재
+    private final FavoriteUsageCounter favoriteUsageCounter;
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_SAVE_ATTEMPTS = 5;
+    private static final int MAX_BATCH_ITEMS = 100;
+    private static final int MAX_IN_LIST = 1000; // Oracle IN 목록 최대 개수
 
     // 식단 기록 화면에 쓰일 메소드
-    @Transactional
+    // write-behind 모드면 버퍼(+저널)에 넣고 바로 반환, 아니면 즉시 저장
     public void saveDietRecord(String customerId, DietRequest request) {
-        // 이메일로 customers.idx 조회
-        CustomersEntity customers = customersRepository.findById(customerId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        // 날짜 파싱, 식사 타입 검증 (버퍼 모드에서도 잘못된 요청은 바로 400)
+        LocalDate date = parseLocalDate(request.getDate());
+        MealEntry entry = toMealEntry(request);
+
+        DietWriteBuffer buffer = writeBuffer.getIfAvailable();
+        if (buffer != null) {
+            buffer.enqueue(customerId, date, entry);
+            return;
+        }
+        saveMeals(customerId, date, List.of(entry));
+    }
 
-        // 날짜 파싱
-        Date recordDate = parseDate(request.getDate());
+    // 여러 음식 한 번에 기록 (사진 한 장에 여러 음식 등): 날짜별로 묶어 트랜잭션 1개로 저장하고 저장 후 날짜별 합계 반환
+    // 이미 한 번에 모아 온 요청이므로 write-behind 버퍼를 거치지 않음 (합계에는 버퍼 대기분도 더해서 반환)
+    public DietBatchResultDTO saveDietBatch(String customerId, List<DietRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_ITEMS) {
+            throw new IllegalArgumentException("한 번에 1~" + MAX_BATCH_ITEMS + "개까지 기록할 수 있습니다.");
+        }
+        Map<LocalDate, List<MealEntry>> byDate = new TreeMap<>();
+        for (DietRequest request : requests) {
+            byDate.computeIfAbsent(parseLocalDate(request.getDate()), d -> new ArrayList<>())
+                    .add(toMealEntry(request));
+        }
 
-        // 해당 날짜의 RECORD 조회 (없으면 생성)
-        RecordEntity record = getOrCreateRecord(customers.getIdx(), recordDate);
+        Map<LocalDate, long[]> totalsByDate = saveDays(customerId, byDate);
 
-        // 식사 타입에 따라 칼로리 추가
-        addCaloriesToRecord(record, request.getType(), request.getCalories());
+        DietWriteBuffer buffer = writeBuffer.getIfAvailable();
+        List<DietRangeDTO.Day> days = new ArrayList<>(totalsByDate.size());
+        totalsByDate.forEach((date, totals) -> {
+            if (buffer != null) {
+                long[] pending = sumByMeal(buffer.pending(customerId, date));
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += pending[i];
+                }
+            }
+            days.add(DietRangeDTO.Day.builder()
+                    .date(date)
+                    .total(totals[0] + totals[1] + totals[2])
+                    .morning(totals[0])
+                    .lunch(totals[1])
+                    .dinner(totals[2])
+                    .build());
+        });
+        return DietBatchResultDTO.builder()
+                .saved(requests.size())
+                .days(days)
+                .build();
+    }
 
-        // 상세 정보를 JSON으로 저장
-        addMealDetailToRecord(record, request.getType(), request.getFood(), request.getCalories());
+    // 같은 고객/같은 날의 음식 여러 개를 트랜잭션 1개로 저장 (write-behind 버퍼 flush 도 여기로)
+    public void saveMeals(String customerId, LocalDate date, List<MealEntry> entries) {
+        saveDays(customerId, Map.of(date, entries));
+    }
 
-        // 변경사항 db저장
-        recordRepository.save(record);
-        log.info("식단 기록 저장 완료 : customerId={}, date={}, type={}, food={}, calories={}",
-                customers.getIdx(), request.getDate(), request.getType(), request.getFood(), request.getCalories());
+    // 날짜별 음식들을 트랜잭션 1개로 저장하고 날짜별 저장 후 [아침, 점심, 저녁] 합계를 반환
+    // 합계는 MERGE 가 DB 에서 원자적으로 증가시키므로 버전 비교 없이도 갱신이 유실되지 않음
+    // 같은 날 RECORD / 롤업 행을 동시에 처음 만들다 유니크 위반이 난 경우만 트랜잭션을 새로 시작해 재시도 (다음 시도는 UPDATE)
+    private Map<LocalDate, long[]> saveDays(String customerId, Map<LocalDate, List<MealEntry>> byDate) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                WrittenDays written = transactionTemplate.execute(status -> writeDays(customerId, byDate));
+                // 커밋된 항목만 즐겨찾기 사용 횟수에 반영 (메모리, DB 쓰기 없음)
+                written.saved().values()
+                        .forEach(entries -> favoriteUsageCounter.recordUses(written.customerIdx(), entries));
+                return written.totals();
+            } catch (DataIntegrityViolationException e) {
+                // FK / NOT NULL / 길이 위반은 재시도해도 같으므로 바로 실패
+                if (!UniqueViolations.isUniqueViolation(e) || attempt >= MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("식단 기록 충돌, 재시도 {}/{}: {}", attempt, MAX_SAVE_ATTEMPTS, e.getMessage());
+                UniqueViolations.backoff(attempt);
+            }
+        }
     }
 
-    /**** 메소드 ****/
-    // 날짜 파싱 메소드
-    private Date parseDate(String dateStr) {
-        try {
-            // 프론트엔드 형식으로 파싱
-            SimpleDateFormat frontendFormat = new SimpleDateFormat("yyyy-MM-dd");
-            Date date = frontendFormat.parse(dateStr);
-            log.info("1단계 파싱: {} -> {}", dateStr, date);
-
-            // Oracle 형식으로 변환
-            SimpleDateFormat oracleFormat = new SimpleDateFormat("dd/MM/yy");
-            String oracleDateStr = oracleFormat.format(date);
-            log.info("2단계 파싱: {} -> {}", date, oracleDateStr);
-
-            // Oracle 형식으로 다시 파싱
-            Date resullt = oracleFormat.parse(oracleDateStr);
-            log.info("3단계 파싱: {} -> {}", oracleDateStr, resullt);
-            return resullt;
-
-        } catch (ParseException e) {
-            throw new IllegalArgumentException("잘못된 날짜 형식입니다.");
+    private record WrittenDays(Long customerIdx, Map<LocalDate, long[]> totals, Map<LocalDate, List<MealEntry>> saved) {
+    }
+
+    // 날짜마다 RECORD 하루 행 MERGE(합계 증가) 1번 + 합계 조회 1번, meal_item 은 전체를 배치 insert
+    // (meal_details LOB 은 더 이상 읽고 쓰지 않음). 날짜 오름차순으로 처리해 동시 배치끼리 잠금 순서가 같음
+    private WrittenDays writeDays(String customerId, Map<LocalDate, List<MealEntry>> byDate) {
+        // 이메일로 customers.idx 조회
+        CustomersEntity customers = customersRepository.findById(customerId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+        // write-behind 저널 재처리: 이미 저장된 항목은 빼고 저장 (합계/롤업/사용 횟수가 두 번 반영되지 않음)
+        Map<LocalDate, List<MealEntry>> toWrite = withoutSaved(byDate);
+
+        Map<LocalDate, long[]> totalsByDate = new TreeMap<>();
+        List<MealItemEntity> items = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<MealEntry>> day : toWrite.entrySet()) {
+            LocalDate date = day.getKey();
+            List<MealEntry> entries = day.getValue();
+
+            // 해당 날짜의 RECORD (없으면 이번 칼로리로 생성, 있으면 합계만 증가)
+            long[] sums = sumByMeal(entries);
+            DayTotalsRow row = upsertDay(customers, toRecordDate(date), sums);
+            RecordEntity record = recordRepository.getReferenceById(row.getIdx());
+            totalsByDate.put(date, new long[] {
+                    nullToZero(row.getMorning()), nullToZero(row.getLunch()), nullToZero(row.getDinner()) });
+
+            for (MealEntry entry : entries) {
+                items.add(MealItemEntity.builder()
+                        .record(record)
+                        .customer(customers)
+                        .mealType(entry.mealType())
+                        .foodName(entry.food())
+                        .calories(entry.calories())
+                        .loggedAt(entry.loggedAt())
+                        .writeKey(entry.writeKey())
+                        .build());
+            }
+            nutritionRollupService.apply(customers.getIdx(), date, sums[0], sums[1], sums[2], entries.size());
         }
+        mealItemRepository.saveAll(items);
+
+        log.debug("식단 기록 저장 완료 : customerId={}, days={}, items={}", customers.getIdx(), totalsByDate.size(),
+                items.size());
+        return new WrittenDays(customers.getIdx(), totalsByDate, toWrite);
     }
 
-    // 같은 날짜에 여러 번 식단 기록, 기존 RECORD가 있으면 사용/없으면 새로 생성
-    private RecordEntity getOrCreateRecord(Long customerIdx, Date recordDate) {
-        log.info("RECORD 조회 시작: customerIdx={}, recordDate={}", customerIdx, recordDate);
+    // writeKey 가 있는 항목 중 meal_item 에 이미 있는 것을 뺀 날짜별 목록 (날짜 오름차순, 빈 날짜 제외)
+    private Map<LocalDate, List<MealEntry>> withoutSaved(Map<LocalDate, List<MealEntry>> byDate) {
+        List<String> keys = new ArrayList<>();
+        byDate.values().forEach(entries -> entries.stream()
+                .map(MealEntry::writeKey)
+                .filter(Objects::nonNull)
+                .forEach(keys::add));
+        Set<String> saved = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += MAX_IN_LIST) {
+            saved.addAll(mealItemRepository.findWriteKeys(
+                    keys.subList(from, Math.min(from + MAX_IN_LIST, keys.size()))));
+        }
 
-        List<RecordEntity> existingRecords = recordRepository.findByCustomer_IdxAndRecordDate(customerIdx, recordDate);
-        log.info("조회된 RECORD 개수: {}", existingRecords.size());
+        Map<LocalDate, List<MealEntry>> result = new TreeMap<>();
+        byDate.forEach((date, entries) -> {
+            List<MealEntry> unsaved = saved.isEmpty() ? entries
+                    : entries.stream().filter(e -> e.writeKey() == null || !saved.contains(e.writeKey())).toList();
+            if (!unsaved.isEmpty()) {
+                result.put(date, unsaved);
+            }
+        });
+        if (!saved.isEmpty()) {
+            log.info("식단 기록 재처리: 이미 저장된 항목 {}개 건너뜀", saved.size());
+        }
+        return result;
+    }
 
-        if (!existingRecords.isEmpty()) {
-            log.info("기존 RECORD 발견: {}개", existingRecords.size());
-            return existingRecords.get(0);
+    // 기간 조회 (달력/차트용): from ~ to (양 끝 포함) 일별 칼로리 합계를 쿼리 1번으로
+    @Transactional(readOnly = true)
+    public DietRangeDTO getDietRange(String customerId, String from, String to, boolean includeMeals) {
+        LocalDate fromDate = parseLocalDate(from);
+        LocalDate toDate = parseLocalDate(to);
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("to 는 from 이후여야 합니다.");
         }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        CustomersEntity customer = customersRepository.findById(customerId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
-        log.info("새 RECORD 생성");
+        // 날짜별 [아침, 점심, 저녁] 합계 = DB 집계 + 아직 flush 되지 않은 버퍼
+        Map<LocalDate, long[]> byDate = new TreeMap<>();
+        for (DailyCaloriesRow row : recordRepository.sumDailyCalories(customer.getIdx(), fromDate,
+                toDate.plusDays(1))) {
+            byDate.put(Instant.ofEpochMilli(row.getDay().getTime()).atZone(ZoneId.systemDefault()).toLocalDate(),
+                    new long[] {
+                            row.getMorning() == null ? 0L : row.getMorning(),
+                            row.getLunch() == null ? 0L : row.getLunch(),
+                            row.getDinner() == null ? 0L : row.getDinner() });
+        }
+        DietWriteBuffer buffer = writeBuffer.getIfAvailable();
+        if (buffer != null) {
+            buffer.pending(customerId).forEach((date, entries) -> {
+                if (!date.isBefore(fromDate) && !date.isAfter(toDate)) {
+                    long[] pending = sumByMeal(entries);
+                    long[] totals = byDate.computeIfAbsent(date, d -> new long[3]);
+                    for (int i = 0; i < totals.length; i++) {
+                        totals[i] += pending[i];
+                    }
+                }
+            });
+        }
 
-        // 없으면 새로 생성
-        log.info("새 RECORD 생성");
-        RecordEntity newRecord = RecordEntity.builder()
-                .customer(CustomersEntity.builder().idx(customerIdx).build())
-                .recordDate(recordDate)
-                .caloriesM(0L)
-                .caloriesL(0L)
-                .caloriesD(0L)
-                .mealDetails("{}") // 빈 JSON 객체
+        List<DietRangeDTO.Day> days = new ArrayList<>(byDate.size());
+        byDate.forEach((date, totals) -> days.add(DietRangeDTO.Day.builder()
+                .date(date)
+                .total(totals[0] + totals[1] + totals[2])
+                .morning(includeMeals ? totals[0] : null)
+                .lunch(includeMeals ? totals[1] : null)
+                .dinner(includeMeals ? totals[2] : null)
+                .build()));
+
+        return DietRangeDTO.builder()
+                .from(fromDate)
+                .to(toDate)
+                .days(days)
                 .build();
-        return recordRepository.save(newRecord);
     }
 
-    // 상세 정보를 JSON으로 저장
-    private void addCaloriesToRecord(RecordEntity record, String mealType, Long calories) {
-        switch (mealType.toLowerCase()) {
-            case "morning":
-                record.setCaloriesM((record.getCaloriesM() != null ? record.getCaloriesM() : 0L) + calories);
-                break;
-            case "lunch":
-                record.setCaloriesL((record.getCaloriesL() != null ? record.getCaloriesL() : 0L) + calories);
-                break;
-            case "dinner":
-                record.setCaloriesD((record.getCaloriesD() != null ? record.getCaloriesD() : 0L) + calories);
-                break;
+    /**** 메소드 ****/
+    // LocalDate -> 그날 0시 (RECORD.record_date 와 같은 형태)
+    static Date toRecordDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 
-            default:
-                throw new IllegalArgumentException("잘몬된 식사 타입니다: " + mealType);
+    // [아침, 점심, 저녁] 칼로리 합계
+    private static long[] sumByMeal(List<MealEntry> entries) {
+        long[] totals = new long[3];
+        for (MealEntry entry : entries) {
+            totals[entry.mealType().ordinal()] += entry.calories();
         }
+        return totals;
     }
 
-    // 기존 meal_details JSON 파싱 -> 새 음식 추가 -> JSON으로 저장
-    private void addMealDetailToRecord(RecordEntity record, String mealType, String foodName, Long calories) {
+    static LocalDate parseLocalDate(String dateStr) {
+        if (dateStr == null) {
+            throw new IllegalArgumentException("잘못된 날짜 형식입니다.");
+        }
         try {
-            // 기존 meal_details JSON 파싱
-            Map<String, Object> mealDetails = new HashMap<>();
-            if (record.getMealDetails() != null && !record.getMealDetails().isEmpty()) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> parsedDetails = objectMapper.readValue(record.getMealDetails(), Map.class);
-                mealDetails = parsedDetails;
-            }
-
-            // 해당 식사 타입의 리스트 가져오기 (없으면 생성)
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> mealList = (List<Map<String, Object>>) mealDetails.getOrDefault(mealType,
-                    new java.util.ArrayList<>());
-
-            // 새로운 음식 정보 추가
-            Map<String, Object> foodItem = new HashMap<>();
-            foodItem.put("food", foodName);
-            foodItem.put("calories", calories);
-            foodItem.put("timestamp", new Date().getTime());
-
-            mealList.add(foodItem);
-            mealDetails.put(mealType, mealList);
+            return LocalDate.parse(dateStr);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 날짜 형식입니다.");
+        }
+    }
 
-            // JSON으로 변환해서 저장
-            record.setMealDetails(objectMapper.writeValueAsString(mealDetails));
+    // 같은 날짜에 여러 번 식단 기록: MERGE 한 문장으로 없으면 생성/있으면 DB 에서 합계 증가 (읽고-고치고-쓰기 없음)
+    // 이어서 저장 후 합계를 한 번 읽음 ((customer_id, record_date) 유니크이므로 항상 1건)
+    private DayTotalsRow upsertDay(CustomersEntity customer, Date recordDate, long[] totals) {
+        recordRepository.upsertDailyCalories(customer.getIdx(), recordDate, totals[0], totals[1], totals[2]);
+        return recordRepository.findDayTotals(customer.getIdx(), recordDate).get(0);
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("JSON 처리 중 오류 발생", e);
-            throw new RuntimeException("식단 상세 정보 저장 중 오류가 발생했습니다.");
+    private static MealEntry toMealEntry(DietRequest request) {
+        if (request.getFood() == null || request.getFood().isBlank()
+                || request.getCalories() == null || request.getCalories() < 0) {
+            throw new IllegalArgumentException("음식명과 칼로리를 확인해주세요.");
         }
+        return new MealEntry(
+                MealType.from(request.getType()),
+                request.getFood(),
+                request.getCalories(),
+                request.getTimestamp() != null
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(request.getTimestamp()), ZoneId.systemDefault())
+                        : LocalDateTime.now());
     }
 
     // 식단조회 메소드
     @Transactional(readOnly = true)
-    public RecordEntity getDietRecord(String customerId, String date) {
+    public DietRecordDTO getDietRecord(String customerId, String date) {
 
         CustomersEntity customer = customersRepository.findById(customerId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
-        Date recordDate = parseDate(date);
+        LocalDate localDate = parseLocalDate(date);
+        Date recordDate = toRecordDate(localDate);
+
+        // 아직 flush 되지 않은 버퍼 항목 (write-behind 모드)
+        DietWriteBuffer buffer = writeBuffer.getIfAvailable();
+        List<MealEntry> pending = buffer == null ? List.of() : buffer.pending(customerId, localDate);
+        long[] pendingTotals = sumByMeal(pending);
 
         // RECORD 조회만(저장하지 않음)
-        RecordEntity record = getOrCreateRecord(customer.getIdx(), recordDate);
+        List<RecordEntity> records = recordRepository.findByCustomer_IdxAndRecordDate(customer.getIdx(), recordDate);
+        if (records.isEmpty()) {
+            Map<String, List<DietRecordDTO.MealItem>> mealDetails = emptyMealDetails();
+            addPending(mealDetails, pending);
+            return DietRecordDTO.builder()
+                    .recordDate(recordDate)
+                    .caloriesM(pendingTotals[0]).caloriesL(pendingTotals[1]).caloriesD(pendingTotals[2])
+                    .mealDetails(mealDetails)
+                    .build();
+        }
+        RecordEntity record = records.get(0);
+
+        Map<String, List<DietRecordDTO.MealItem>> mealDetails = emptyMealDetails();
+        // 아직 백필되지 않은 기존 JSON 항목 먼저, 이후 meal_item 행
+        LegacyMealDetails.parse(objectMapper, record.getMealDetails())
+                .forEach((type, items) -> mealDetails.get(type.key()).addAll(items));
+        for (MealItemEntity item : mealItemRepository.findByRecord_IdxOrderByLoggedAtAscIdxAsc(record.getIdx())) {
+            mealDetails.get(item.getMealType().key()).add(new DietRecordDTO.MealItem(
+                    item.getFoodName(),
+                    item.getCalories(),
+                    item.getLoggedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+        addPending(mealDetails, pending);
+
+        return DietRecordDTO.builder()
+                .idx(record.getIdx())
+                .recordDate(record.getRecordDate())
+                .caloriesM(nullToZero(record.getCaloriesM()) + pendingTotals[0])
+                .caloriesL(nullToZero(record.getCaloriesL()) + pendingTotals[1])
+                .caloriesD(nullToZero(record.getCaloriesD()) + pendingTotals[2])
+                .targetWeight(record.getTargetWeight())
+                .targetCalories(record.getTargetCalories())
+                .mealDetails(mealDetails)
+                .build();
+    }
+
+    private static Map<String, List<DietRecordDTO.MealItem>> emptyMealDetails() {
+        Map<String, List<DietRecordDTO.MealItem>> details = new LinkedHashMap<>();
+        for (MealType type : MealType.values()) {
+            details.put(type.key(), new ArrayList<>());
+        }
+        return details;
+    }
+
+    private static void addPending(Map<String, List<DietRecordDTO.MealItem>> mealDetails, List<MealEntry> pending) {
+        for (MealEntry entry : pending) {
+            mealDetails.get(entry.mealType().key()).add(new DietRecordDTO.MealItem(
+                    entry.food(),
+                    entry.calories(),
+                    entry.loggedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+    }
 
-        return record;
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
     }
 
 }
@@ -0,0 +1,438 @@
+package com.example.health_care.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.config.LogThrottle;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 write-behind 버퍼 (diet.write-behind.enabled=true 일 때만 동작).
+ *
+ * 한 끼를 음식 여러 개로 연달아 기록하면 요청마다 같은 RECORD 행을 갱신하는 트랜잭션이 생기므로,
+ * (고객, 날짜) 별로 모았다가 window 가 지나거나 max-entries 에 도달하면 트랜잭션 1개로 저장합니다.
+ *
+ * 내구성: 버퍼에 넣기 전에 로컬 저널 파일에 ADD 를 먼저 append 하고, DB 커밋 후 ACK 를 남깁니다.
+ * fsync 는 그룹 커밋: 잠금 안에서는 append 만 하고, 그 사이 쌓인 ADD 들을 먼저 도착한 스레드가 fsync 한 번으로 함께 내립니다.
+ * ACK 는 fsync 하지 않습니다 (유실되면 재처리되지만 아래 writeKey 로 걸러짐).
+ * 재기동 시 ACK 되지 않은 ADD 를 다시 버퍼에 올려 저장합니다. 항목마다 writeKey 를 붙여 meal_item.write_key (유니크) 로 저장하므로
+ * 커밋 직후 ACK 전에 죽어 다시 저장해도 이미 저장된 항목은 건너뜁니다 (합계/롤업/즐겨찾기 사용 횟수도 한 번만 반영).
+ * DB 일시 장애면 키별로 지수 백오프 (최대 max-retry-delay-ms) 후 재시도합니다.
+ * 재시도해도 저장할 수 없는 항목 (고객 삭제, 제약 위반 등) 은 dead-letter 파일에 ADD 줄 그대로 남긴 뒤 ACK 하고,
+ * dead-letter 기록마저 실패하면 조회 합계에서 빼고 백오프하며 dead-letter 기록만 다시 시도합니다 (그동안 저널은 비우지 않음).
+ * 대기 중인 항목이 하나도 없을 때 저널이 compact-bytes 를 넘으면 비웁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diet.write-behind", name = "enabled", havingValue = "true")
+@RegisterReflectionForBinding(DietWriteBuffer.JournalLine.class) // 네이티브 이미지: 저널 JSON 바인딩용 리플렉션 정보
+public class DietWriteBuffer implements DisposableBean {
+
+    private static final byte[] NEWLINE = { '\n' };
+
+    private final DietService dietService;
+    // 저널 한 줄 직렬화/역직렬화 (JournalLine 고정 타입이라 한 번 만들어 재사용)
+    private final ObjectWriter journalWriter;
+    private final ObjectReader journalReader;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final boolean fsync;
+    private final long compactBytes;
+    private final long maxRetryDelayMillis;
+    private final LogThrottle retryLog = new LogThrottle(Duration.ofSeconds(30));
+
+    private final Map<Key, Pending> buffer = new ConcurrentHashMap<>();
+    private final Set<Pending> inFlight = ConcurrentHashMap.newKeySet(); // 버퍼에서 꺼냈지만 아직 커밋 전
+    private final Set<Pending> undeliverable = ConcurrentHashMap.newKeySet(); // dead-letter 기록 재시도 대기 (ACK 전)
+    // 잠근 채 파일 I/O (append) 를 하므로 synchronized 대신 ReentrantLock (가상 스레드 carrier 고정 방지)
+    private final ReentrantLock journalLock = new ReentrantLock();
+    // fsync 는 journalLock 밖에서 이 잠금으로 한 스레드만 (기다린 스레드는 앞 스레드의 fsync 에 포함됐으면 바로 반환)
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final FileChannel journal;
+    private final Path deadLetter;
+    private long seq = 0; // journalLock 하에서만 증가
+    private long appended = 0; // journalLock 하에서만 증가, 지금까지 append 한 ADD 수
+    private volatile long synced = 0; // syncLock 하에서만 갱신, fsync 로 디스크에 내린 ADD 수
+
+    record Key(String customerId, LocalDate date) {
+    }
+
+    // 저널 한 줄 (op = ADD | ACK)
+    record JournalLine(String op, Long seq, String customerId, LocalDate date, MealEntry entry, List<Long> seqs) {
+    }
+
+    static final class Pending {
+        final Key key;
+        final long createdAt;
+        final List<Long> seqs = new ArrayList<>();
+        final List<MealEntry> entries = new ArrayList<>();
+        int attempts = 0; // 연속 실패 수
+        long retryAt = 0L; // 이 시각 전에는 저장/dead-letter 를 다시 시도하지 않음
+
+        Pending(Key key, long createdAt) {
+            this.key = key;
+            this.createdAt = createdAt;
+        }
+    }
+
+    public DietWriteBuffer(DietService dietService, JsonCodecs codecs,
+            @Value("${diet.write-behind.journal:./data/diet-journal.log}") String journalPath,
+            @Value("${diet.write-behind.window-ms:2000}") long windowMillis,
+            @Value("${diet.write-behind.max-entries:20}") int maxEntries,
+            @Value("${diet.write-behind.fsync:true}") boolean fsync,
+            @Value("${diet.write-behind.compact-bytes:1048576}") long compactBytes,
+            @Value("${diet.write-behind.dead-letter:./data/diet-dead-letter.log}") String deadLetterPath,
+            @Value("${diet.write-behind.max-retry-delay-ms:60000}") long maxRetryDelayMillis)
+            throws IOException {
+        this.dietService = dietService;
+        this.journalWriter = codecs.writer(JournalLine.class);
+        this.journalReader = codecs.reader(JournalLine.class);
+        this.windowMillis = windowMillis;
+        this.maxEntries = maxEntries;
+        this.fsync = fsync;
+        this.compactBytes = compactBytes;
+        this.maxRetryDelayMillis = maxRetryDelayMillis;
+
+        Path path = Paths.get(journalPath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.deadLetter = Paths.get(deadLetterPath);
+        if (deadLetter.getParent() != null) {
+            Files.createDirectories(deadLetter.getParent());
+        }
+        replay(path);
+        this.journal = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // 저널에 ADD 를 남긴 뒤 버퍼에 추가하고, ADD 가 디스크에 내려간 뒤 반환. 가득 차면 호출 스레드에서 바로 flush
+    public void enqueue(String customerId, LocalDate date, MealEntry meal) {
+        Key key = new Key(customerId, date);
+        MealEntry entry = meal.withWriteKey(UUID.randomUUID().toString());
+        long position;
+        boolean full;
+        journalLock.lock();
+        try {
+            long s = ++seq;
+            append(new JournalLine("ADD", s, customerId, date, entry, null));
+            position = ++appended;
+            Pending p = buffer.computeIfAbsent(key, k -> new Pending(k, System.currentTimeMillis()));
+            synchronized (p) {
+                p.seqs.add(s);
+                p.entries.add(entry);
+                // 재시도 대기 중인 키는 가득 차도 백오프가 끝날 때까지 기다림
+                full = p.entries.size() >= maxEntries && System.currentTimeMillis() >= p.retryAt;
+            }
+        } finally {
+            journalLock.unlock();
+        }
+        awaitSynced(position);
+        if (full) {
+            flush(key);
+        }
+    }
+
+    // 그룹 커밋: position 번째 ADD 까지 디스크에 내려갈 때까지 대기
+    // 잠금을 얻었을 때 앞 스레드의 fsync 가 이미 포함했으면 그대로 반환, 아니면 지금까지 append 된 것 전체를 한 번에 fsync
+    private void awaitSynced(long position) {
+        if (!fsync || synced >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (synced >= position) {
+                return;
+            }
+            long target;
+            journalLock.lock();
+            try {
+                target = appended;
+            } finally {
+                journalLock.unlock();
+            }
+            journal.force(false);
+            synced = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("식단 저널 fsync 실패", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // 조회 시 DB 값에 더할 대기 항목 (버퍼 + 저장 중)
+    public List<MealEntry> pending(String customerId, LocalDate date) {
+        Key key = new Key(customerId, date);
+        List<MealEntry> result = new ArrayList<>();
+        for (Pending p : inFlight) {
+            if (p.key.equals(key)) {
+                result.addAll(p.entries);
+            }
+        }
+        Pending p = buffer.get(key);
+        if (p != null) {
+            synchronized (p) {
+                result.addAll(p.entries);
+            }
+        }
+        return result;
+    }
+
+    public Map<LocalDate, List<MealEntry>> pending(String customerId) {
+        Map<LocalDate, List<MealEntry>> result = new HashMap<>();
+        for (Pending p : inFlight) {
+            if (p.key.customerId().equals(customerId)) {
+                result.computeIfAbsent(p.key.date(), d -> new ArrayList<>()).addAll(p.entries);
+            }
+        }
+        buffer.forEach((key, p) -> {
+            if (key.customerId().equals(customerId)) {
+                synchronized (p) {
+                    result.computeIfAbsent(key.date(), d -> new ArrayList<>()).addAll(p.entries);
+                }
+            }
+        });
+        return result;
+    }
+
+    // window 가 지나고 재시도 대기가 끝난 버퍼를 저장
+    @Scheduled(fixedDelayString = "${diet.write-behind.tick-ms:200}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+        for (Pending p : buffer.values()) {
+            if (now - p.createdAt >= windowMillis && now >= p.retryAt) {
+                flush(p.key);
+            }
+        }
+        for (Pending p : undeliverable) {
+            if (now >= p.retryAt && undeliverable.remove(p)) {
+                deadLetter(p, List.copyOf(p.seqs), List.copyOf(p.entries), null);
+            }
+        }
+        compactIfIdle();
+    }
+
+    void flush(Key key) {
+        Pending p;
+        journalLock.lock();
+        try {
+            // 꺼내는 순간부터 inFlight 에 있어야 조회/압축에서 빠지지 않음
+            p = buffer.remove(key);
+            if (p == null) {
+                return;
+            }
+            inFlight.add(p);
+        } finally {
+            journalLock.unlock();
+        }
+        List<MealEntry> entries;
+        List<Long> seqs;
+        synchronized (p) {
+            entries = List.copyOf(p.entries);
+            seqs = List.copyOf(p.seqs);
+        }
+        try {
+            dietService.saveMeals(key.customerId(), key.date(), entries);
+        } catch (DataIntegrityViolationException e) {
+            // 제약 위반은 재시도해도 같음 (유니크 충돌은 saveMeals 안에서 이미 재시도함)
+            deadLetter(p, seqs, entries, e);
+            return;
+        } catch (DataAccessException | TransactionException e) {
+            // DB 일시 장애: 백오프 후 재시도 (같은 키에 새로 들어온 항목도 함께 기다림)
+            int attempts = p.attempts + 1;
+            long delay = retryDelay(attempts);
+            long suppressed = retryLog.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("[DIET-BUFFER] flush 실패, {}ms 후 재시도 key={} attempts={}: {} (suppressed since last: {})",
+                        delay, key, attempts, e.getMessage(), suppressed);
+            }
+            journalLock.lock();
+            try {
+                Pending merged = buffer.merge(key, p, DietWriteBuffer::prepend);
+                synchronized (merged) {
+                    merged.attempts = attempts;
+                    merged.retryAt = System.currentTimeMillis() + delay;
+                }
+                inFlight.remove(p);
+            } finally {
+                journalLock.unlock();
+            }
+            return;
+        } catch (RuntimeException e) {
+            // 재시도해도 실패할 항목 (고객 삭제 등)
+            deadLetter(p, seqs, entries, e);
+            return;
+        }
+        ack(p, seqs);
+    }
+
+    // 종료 시 남은 버퍼 저장 (실패한 항목은 저널에 남아 다음 기동 때 재처리)
+    @Override
+    public void destroy() throws IOException {
+        for (Key key : List.copyOf(buffer.keySet())) {
+            flush(key);
+        }
+        compactIfIdle();
+        journal.close();
+    }
+
+    private void ack(Pending p, List<Long> seqs) {
+        journalLock.lock();
+        try {
+            inFlight.remove(p);
+            append(new JournalLine("ACK", null, null, null, null, seqs));
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    // 저장할 수 없는 항목을 dead-letter 파일에 ADD 줄로 남긴 뒤 ACK (원인 확인 후 저널에 옮겨 다시 넣을 수 있음)
+    // dead-letter 기록도 실패하면 ACK 하지 않고 undeliverable 로 옮겨 백오프 후 다시 기록 (조회 합계에는 넣지 않음)
+    private void deadLetter(Pending p, List<Long> seqs, List<MealEntry> entries, RuntimeException cause) {
+        Key key = p.key;
+        if (cause != null) {
+            log.error("[DIET-BUFFER] flush 불가, dead-letter 로 이동 key={} entries={}", key, entries.size(), cause);
+        }
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (int i = 0; i < entries.size(); i++) {
+                lines.write(journalWriter.writeValueAsBytes(
+                        new JournalLine("ADD", seqs.get(i), key.customerId(), key.date(), entries.get(i), null)));
+                lines.write(NEWLINE);
+            }
+            journalLock.lock();
+            try {
+                Files.write(deadLetter, lines.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                        StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            } finally {
+                journalLock.unlock();
+            }
+        } catch (IOException e) {
+            p.attempts++;
+            p.retryAt = System.currentTimeMillis() + retryDelay(p.attempts);
+            log.error("[DIET-BUFFER] dead-letter 기록 실패, 저널에 남기고 재시도 key={} attempts={}: {}", key, p.attempts,
+                    e.getMessage());
+            journalLock.lock();
+            try {
+                inFlight.remove(p);
+                undeliverable.add(p);
+            } finally {
+                journalLock.unlock();
+            }
+            return;
+        }
+        ack(p, seqs);
+    }
+
+    // window 부터 두 배씩, 최대 maxRetryDelayMillis
+    private long retryDelay(int attempts) {
+        long delay = Math.max(windowMillis, 1L) << Math.min(attempts - 1, 20);
+        return Math.min(delay, maxRetryDelayMillis);
+    }
+
+    private void compactIfIdle() {
+        journalLock.lock();
+        try {
+            if (buffer.isEmpty() && inFlight.isEmpty() && undeliverable.isEmpty() && journal.size() > compactBytes) {
+                journal.truncate(0);
+                log.info("[DIET-BUFFER] journal compacted");
+            }
+        } catch (IOException e) {
+            log.warn("[DIET-BUFFER] journal compaction 실패: {}", e.getMessage());
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    // 재시도 대기 중 새로 들어온 항목보다 앞에 오도록 합침
+    private static Pending prepend(Pending newer, Pending older) {
+        Pending merged = new Pending(older.key, older.createdAt);
+        merged.seqs.addAll(older.seqs);
+        merged.entries.addAll(older.entries);
+        synchronized (newer) {
+            merged.seqs.addAll(newer.seqs);
+            merged.entries.addAll(newer.entries);
+        }
+        return merged;
+    }
+
+    // journalLock 하에서 호출. fsync 는 하지 않음 (ADD 는 awaitSynced 로 그룹 커밋)
+    private void append(JournalLine line) {
+        try {
+            ByteBuffer[] bufs = { ByteBuffer.wrap(journalWriter.writeValueAsBytes(line)), ByteBuffer.wrap(NEWLINE) };
+            while (bufs[1].hasRemaining()) {
+                journal.write(bufs);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("식단 저널 기록 실패", e);
+        }
+    }
+
+    // 기동 시 ACK 되지 않은 ADD 를 버퍼로 복구 (createdAt = 0 이라 첫 tick 에 바로 저장)
+    private void replay(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        Map<Long, JournalLine> unacked = new LinkedHashMap<>();
+        for (String raw : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (raw.isBlank()) {
+                continue;
+            }
+            JournalLine line;
+            try {
+                line = journalReader.readValue(raw);
+            } catch (JsonProcessingException e) {
+                log.warn("[DIET-BUFFER] 손상된 저널 줄 무시 (비정상 종료 중 기록된 마지막 줄일 수 있음)");
+                continue;
+            }
+            if ("ADD".equals(line.op())) {
+                unacked.put(line.seq(), line);
+                seq = Math.max(seq, line.seq());
+            } else if ("ACK".equals(line.op()) && line.seqs() != null) {
+                line.seqs().forEach(unacked::remove);
+            }
+        }
+        for (JournalLine line : unacked.values()) {
+            Pending p = buffer.computeIfAbsent(new Key(line.customerId(), line.date()), k -> new Pending(k, 0L));
+            p.seqs.add(line.seq());
+            p.entries.add(line.entry());
+        }
+        if (!unacked.isEmpty()) {
+            log.info("[DIET-BUFFER] journal replay: {} entries pending", unacked.size());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.health_care.service;
+
+/**
+ * 시계열 다운샘플링 (Largest-Triangle-Three-Buckets).
+ * 첫/마지막 점은 유지하고, 나머지를 threshold - 2 개 버킷으로 나눠 버킷마다
+ * (직전 선택점, 현재 후보, 다음 버킷 평균점) 삼각형 면적이 가장 큰 점 1개를 고릅니다.
+ * 원시 배열을 한 번만 훑습니다 (O(n)).
+ */
+final class Downsampler {
+
+    private Downsampler() {
+    }
+
+    // 선택된 점의 인덱스 (오름차순). n <= threshold 면 전부 (threshold 는 3 이상)
+    static int[] lttb(long[] x, double[] y, int n, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("threshold 는 3 이상이어야 합니다.");
+        }
+        if (n <= threshold) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        int count = 0;
+        selected[count++] = 0;
+
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int a = 0; // 직전 선택점
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 버킷 평균점
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextLen = nextEnd - nextStart;
+            avgX /= nextLen;
+            avgY /= nextLen;
+
+            // 현재 버킷에서 삼각형 면적이 최대인 점
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[a] - avgX) * (y[i] - y[a]) - (x[a] - x[i]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[count++] = chosen;
+            a = chosen;
+        }
+
+        selected[count] = n - 1;
+        return selected;
+    }
+}
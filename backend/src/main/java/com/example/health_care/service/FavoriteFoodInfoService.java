@@ -1,11 +1,17 @@
 package com.example.health_care.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.health_care.dto.FavoriteFoodInfoRequest;
 import com.example.health_care.dto.FavoriteFoodInfoResponse;
@@ -17,89 +23,214 @@ import com.example.health_care.repository.FavoriteFoodInfoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 즐겨찾기 (고객당 최대 50개, 가득 차면 가장 오래된 것부터 교체).
+ *
+ * 목록은 고객별로 메모리에 캐시하고, 추가/삭제가 커밋된 뒤 해당 고객 캐시를 무효화합니다.
+ * 사용 횟수는 식단 기록 시 {@link FavoriteUsageCounter} 에만 더하고 주기적으로 DB 에 반영합니다.
+ * 인스턴스가 여러 대면 다른 인스턴스의 변경은 TTL 이 지나야 반영됩니다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FavoriteFoodInfoService {
-    
+
+    static final int CAPACITY = 50;
+
     private final CustomersRepository customersRepository;
     private final FavoriteFoodInfoRepository favoriteFoodInfoRepository;
+    private final FavoriteUsageCounter usageCounter;
 
-    // 즐겨찾기 목록 조회
-    @Transactional(readOnly = true)
+    private final FavoritesCache cache = new FavoritesCache(10_000, 10 * 60 * 1000L);
+
+    // 즐겨찾기 목록 조회 (캐시 적중 시 DB 조회 없음) - 최신순
     public List<FavoriteFoodInfoResponse> getFavorites(String customerId) {
-        CustomersEntity customer = customersRepository.findById(customerId)
-            .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-        
-         List<FavoriteFoodInfoEntity> entities = favoriteFoodInfoRepository
-        .findByCustomer_IdxOrderByCreatedAtDesc(customer.getIdx());
-    
-    return entities.stream()
-        .map(this::convertToResponse)
-        .collect(Collectors.toList());
+        return getFavorites(customerId, false);
     }
 
-    // 즐겨찾기 추가
-    @Transactional
-    public void addFavorite(String customerId, FavoriteFoodInfoRequest request) {
-        CustomersEntity customer = customersRepository.findById(customerId)
-            .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        // 중복 체크
-        boolean exists = favoriteFoodInfoRepository.existsByCustomer_IdxAndFoodNameAndCalories(
-            customer.getIdx(), request.getFood(), request.getCalories().intValue());
-        
-        if (exists) {
-            throw new IllegalArgumentException("이미 즐겨찾기에 추가된 음식입니다.");
+    // mostUsed = true 면 사용 횟수 내림차순 (같으면 최신순). count 는 DB 값 + 아직 반영 안 된 메모리 카운터
+    public List<FavoriteFoodInfoResponse> getFavorites(String customerId, boolean mostUsed) {
+        Long customerIdx = findCustomer(customerId).getIdx();
+        List<FavoriteFoodInfoResponse> favorites = new ArrayList<>();
+        for (FavoriteFoodInfoResponse f : loadFavorites(customerIdx)) {
+            long pending = usageCounter.pending(customerIdx, f.getFood(), f.getCalories().intValue());
+            favorites.add(f.toBuilder().count(f.getCount() + pending).build());
         }
-        
-        // 50개 제한 체크
-        long count = favoriteFoodInfoRepository.countByCustomer_Idx(customer.getIdx());
-        if (count >= 50) {
-            // 가장 오래된 즐겨찾기 삭제
-            List<FavoriteFoodInfoEntity> oldestFavorites = favoriteFoodInfoRepository
-                .findByCustomer_IdxOrderByCreatedAtAsc(customer.getIdx());
-            if (!oldestFavorites.isEmpty()) {
-                favoriteFoodInfoRepository.delete(oldestFavorites.get(0));
-            }
+        if (mostUsed) {
+            // List.sort 는 안정 정렬이라 동점이면 최신순 유지
+            favorites.sort(Comparator.comparingLong(FavoriteFoodInfoResponse::getCount).reversed());
         }
-        
-        // 새 즐겨찾기 추가
-        FavoriteFoodInfoEntity favorite = FavoriteFoodInfoEntity.builder()
-            .customer(customer)
-            .foodName(request.getFood())
-            .calories(request.getCalories().intValue())
-            .count(0)
-            .createdAt(java.time.LocalDateTime.now())
-            .build();
-        
-        favoriteFoodInfoRepository.save(favorite);
+        return favorites;
+    }
+
+    /**
+     * GET /api/favorite 의 ETag 값. 캐시된 목록의 stamp 와 고객의 사용 기록 횟수로 만들어서
+     * 목록 조회와 count 합산 없이 변경 여부를 판단합니다. 캐시에 목록이 없으면 null (조회 후 다시 계산).
+     * stamp 는 인스턴스 안에서만 유일하므로 인스턴스 ID 를 붙입니다.
+     */
+    public String getFavoritesVersion(String customerId, boolean mostUsed) {
+        Long customerIdx = findCustomer(customerId).getIdx();
+        Long stamp = cache.stamp(customerIdx);
+        if (stamp == null) {
+            return null;
+        }
+        return cache.instanceId() + "." + customerIdx + "." + stamp + "." + usageCounter.uses(customerIdx)
+                + (mostUsed ? ".u" : "");
+    }
+
+    // 메모리 사용 횟수를 주기적으로 DB 에 일괄 반영하고, 바뀐 고객의 목록 캐시를 비움
+    @Scheduled(initialDelayString = "${favorite.usage.flush-ms:30000}", fixedDelayString = "${favorite.usage.flush-ms:30000}")
+    public void flushUsage() {
+        usageCounter.flush().forEach(cache::invalidate);
+    }
+
+    // 즐겨찾기 추가 - 추가된 항목을 반환
+    public FavoriteFoodInfoResponse addFavorite(String customerId, FavoriteFoodInfoRequest request) {
+        CustomersEntity customer = findCustomer(customerId);
+        String food = request.getFood();
+        int calories = request.getCalories().intValue();
+
+        int changed;
+        try {
+            changed = favoriteFoodInfoRepository.addToRing(customer.getIdx(), food, calories,
+                    LocalDateTime.now(), CAPACITY);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 음식을 동시에 추가한 경우 (uk_favorite_food)
+            changed = 0;
+        }
+        if (changed == 0) {
+            throw new IllegalArgumentException("이미 즐겨찾기에 추가된 음식입니다.");
+        }
+
+        // 즐겨찾기가 없던 동안 (처음 추가, 교체/삭제 후 다시 추가) 쌓인 사용 횟수는 새 즐겨찾기에 넘기지 않음
+        usageCounter.forget(customer.getIdx(), food, calories);
+        cache.invalidate(customer.getIdx());
+        return getFavorites(customerId).stream()
+                .filter(f -> food.equals(f.getFood()) && f.getCalories() == calories)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("추가한 즐겨찾기를 찾을 수 없습니다."));
     }
 
     // 즐겨찾기 삭제
-    @Transactional
     public void removeFavorite(String customerId, Long idx) {
-        CustomersEntity customer = customersRepository.findById(customerId)
-            .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        FavoriteFoodInfoEntity favorite = favoriteFoodInfoRepository.findById(idx)
-            .orElseThrow(() -> new IllegalArgumentException("즐겨찾기를 찾을 수 없습니다."));
-        
+        CustomersEntity customer = findCustomer(customerId);
+
         // 본인 것만 삭제 가능
-        if (!favorite.getCustomer().getIdx().equals(customer.getIdx())) {
-            throw new IllegalArgumentException("본인의 즐겨찾기만 삭제할 수 있습니다.");
+        if (favoriteFoodInfoRepository.deleteByIdxAndCustomerIdx(idx, customer.getIdx()) == 0) {
+            throw new IllegalArgumentException("즐겨찾기를 찾을 수 없습니다.");
         }
-        
-        favoriteFoodInfoRepository.delete(favorite);
+        cache.invalidate(customer.getIdx());
     }
-    
+
+    private CustomersEntity findCustomer(String customerId) {
+        return customersRepository.findById(customerId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
+    private List<FavoriteFoodInfoResponse> loadFavorites(Long customerIdx) {
+        List<FavoriteFoodInfoResponse> cached = cache.get(customerIdx);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation();
+        List<FavoriteFoodInfoResponse> favorites = favoriteFoodInfoRepository
+                .findByCustomer_IdxOrderByCreatedAtDesc(customerIdx).stream()
+                .map(this::convertToResponse)
+                .toList();
+        cache.putIfCurrent(customerIdx, favorites, generation);
+        return favorites;
+    }
+
     // Entity를 Response DTO로 변환
     private FavoriteFoodInfoResponse convertToResponse(FavoriteFoodInfoEntity entity) {
         return FavoriteFoodInfoResponse.builder()
             .idx(entity.getIdx())
             .food(entity.getFoodName())
             .calories(entity.getCalories().longValue())
+            .count(entity.getCount() == null ? 0L : entity.getCount().longValue())
             .createdAt(entity.getCreatedAt())
             .build();
     }
+
+    /**
+     * 고객별 즐겨찾기 목록 LRU 캐시.
+     * 조회 시작 후 그 고객이 무효화됐으면 (고객별 무효화 시점 > 조회 시작 generation) 그 조회 결과는 넣지 않아서,
+     * 커밋 전에 읽은 목록이 무효화 뒤에 캐시에 남는 일을 막습니다. 다른 고객의 무효화는 영향을 주지 않습니다.
+     * 무효화 시점 기록도 maxCustomers 개까지만 두고, 밀려난 기록의 시점은 floor 로 남겨 그 이전에 시작한 조회만 버립니다.
+     */
+    static final class FavoritesCache {
+
+        // stamp: 캐시에 넣을 때마다 새 값 (같은 stamp 면 같은 목록)
+        private record Entry(List<FavoriteFoodInfoResponse> favorites, long loadedAt, long stamp) {
+        }
+
+        private final long ttlMillis;
+        private final Map<Long, Entry> entries;
+        private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        private final Map<Long, Long> invalidatedAt; // 고객별 마지막 무효화 generation
+        private long generation = 0;
+        private long floor = 0; // invalidatedAt 에서 밀려난 기록 중 가장 최근 generation
+        private long nextStamp = 0;
+
+        FavoritesCache(int maxCustomers, long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+            this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    return size() > maxCustomers;
+                }
+            };
+            this.invalidatedAt = new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    if (size() > maxCustomers) {
+                        floor = Math.max(floor, eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized List<FavoriteFoodInfoResponse> get(Long customerIdx) {
+            Entry e = live(customerIdx);
+            return e == null ? null : e.favorites();
+        }
+
+        synchronized Long stamp(Long customerIdx) {
+            Entry e = live(customerIdx);
+            return e == null ? null : e.stamp();
+        }
+
+        String instanceId() {
+            return instanceId;
+        }
+
+        private Entry live(Long customerIdx) {
+            Entry e = entries.get(customerIdx);
+            if (e == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - e.loadedAt() > ttlMillis) {
+                entries.remove(customerIdx);
+                return null;
+            }
+            return e;
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized void putIfCurrent(Long customerIdx, List<FavoriteFoodInfoResponse> favorites, long seen) {
+            if (Math.max(floor, invalidatedAt.getOrDefault(customerIdx, 0L)) <= seen) {
+                entries.put(customerIdx, new Entry(favorites, System.currentTimeMillis(), ++nextStamp));
+            }
+        }
+
+        synchronized void invalidate(Long customerIdx) {
+            invalidatedAt.put(customerIdx, ++generation);
+            entries.remove(customerIdx);
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.example.health_care.repository.FavoriteFoodInfoRepository;
+import com.example.health_care.repository.FavoriteUsageRepository.UsageDelta;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음식별 사용 횟수 메모리 카운터.
+ * 식단 기록마다 DB 를 갱신하지 않고 (고객, 음식, 칼로리) 별 LongAdder 에 더해 두었다가 주기적으로 한 번에 반영합니다.
+ *
+ * flush 는 현재 맵을 retired 로 돌리고, 한 주기 전에 retired 된 맵을 DB 에 씁니다.
+ * 교체 직전에 맵 참조를 읽은 기록 스레드의 증가분도 한 주기 뒤에는 반드시 반영되어 있으므로 잠금 없이 유실이 없습니다.
+ * 조회는 세 맵(current / retired / flushing) 합계를 DB 값에 더해서 봅니다.
+ * 주기는 {@link FavoriteFoodInfoService#flushUsage()} 가 정합니다 (favorite.usage.flush-ms).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteUsageCounter implements DisposableBean {
+
+    private final FavoriteFoodInfoRepository favoriteFoodInfoRepository;
+
+    record Key(long customerIdx, String food, int calories) {
+    }
+
+    private volatile Map<Key, LongAdder> current = new ConcurrentHashMap<>();
+    private volatile Map<Key, LongAdder> retired = new ConcurrentHashMap<>();
+    private volatile Map<Key, LongAdder> flushing = Map.of(); // DB 에 쓰는 중 (커밋 후 비움)
+    // DB 배치를 잡은 채 기다리므로 synchronized 대신 ReentrantLock (가상 스레드 carrier 고정 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 고객별 누적 기록 횟수 (줄지 않음, 즐겨찾기 목록 ETag 용). 기동 후 식단을 기록한 고객 수만큼만 생김
+    private final Map<Long, LongAdder> usesByCustomer = new ConcurrentHashMap<>();
+
+    public void recordUse(long customerIdx, String food, long calories) {
+        if (food == null || calories < 0 || calories > Integer.MAX_VALUE) {
+            return; // 즐겨찾기 칼로리 컬럼 범위 밖은 즐겨찾기일 수 없음
+        }
+        current.computeIfAbsent(new Key(customerIdx, food, (int) calories), k -> new LongAdder()).increment();
+        usesByCustomer.computeIfAbsent(customerIdx, k -> new LongAdder()).increment();
+    }
+
+    public void recordUses(long customerIdx, List<MealEntry> entries) {
+        for (MealEntry entry : entries) {
+            recordUse(customerIdx, entry.food(), entry.calories());
+        }
+    }
+
+    // 기동 후 이 고객의 사용 기록 횟수 (pending 이 바뀌었는지 판단용)
+    public long uses(long customerIdx) {
+        LongAdder uses = usesByCustomer.get(customerIdx);
+        return uses == null ? 0 : uses.sum();
+    }
+
+    // 즐겨찾기를 새로 추가했을 때 호출: 즐겨찾기가 없던 동안 쌓인 사용 횟수를 버림
+    // (남겨 두면 새 즐겨찾기가 이전 기록만큼 count 를 가진 채 시작하고, flush 되면 DB 에도 더해짐)
+    // flush 와 겹치지 않게 flushLock 안에서 지우므로 flushing 맵은 항상 비어 있음
+    public void forget(long customerIdx, String food, int calories) {
+        Key key = new Key(customerIdx, food, calories);
+        flushLock.lock();
+        try {
+            current.remove(key);
+            retired.remove(key);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 사용 횟수
+    public long pending(long customerIdx, String food, int calories) {
+        Key key = new Key(customerIdx, food, calories);
+        return sum(current, key) + sum(retired, key) + sum(flushing, key);
+    }
+
+    // 한 주기 전에 retired 된 맵을 DB 에 반영하고, 사용 횟수가 바뀐 고객 idx 를 반환 (실패하면 다음 주기에 다시 시도)
+    Set<Long> flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private Set<Long> flushLocked() {
+        Map<Key, LongAdder> toWrite = retired;
+        flushing = toWrite;
+        retired = current;
+        current = new ConcurrentHashMap<>();
+
+        List<UsageDelta> deltas = new ArrayList<>(toWrite.size());
+        toWrite.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.add(new UsageDelta(key.customerIdx(), key.food(), key.calories(), delta));
+            }
+        });
+        try {
+            favoriteFoodInfoRepository.addUsageCounts(deltas);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("[FAVORITE-USAGE] flush 실패, 다음 주기에 재시도 (entries={}): {}", deltas.size(), e.getMessage());
+            for (UsageDelta d : deltas) {
+                current.computeIfAbsent(new Key(d.customerIdx(), d.foodName(), d.calories()), k -> new LongAdder())
+                        .add(d.delta());
+            }
+            return Set.of();
+        } finally {
+            flushing = Map.of();
+        }
+        Set<Long> customers = new HashSet<>();
+        deltas.forEach(d -> customers.add(d.customerIdx()));
+        return customers;
+    }
+
+    // 종료 시 두 주기를 연달아 돌려 current / retired 를 모두 반영 (식단 저장 빈들이 먼저 종료된 뒤 호출됨)
+    @Override
+    public void destroy() {
+        flush();
+        flush();
+    }
+
+    private static long sum(Map<Key, LongAdder> map, Key key) {
+        LongAdder adder = map.get(key);
+        return adder == null ? 0L : adder.sum();
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.health_care.service;
 
 import com.example.health_care.config.FoodClient;
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.config.LogThrottle;
 import com.example.health_care.dto.FoodDTO;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /// 식품 영양성분 정보 서비스
+@Slf4j
 @Service
 public class FoodService {
 
@@ -16,11 +20,17 @@ public class FoodService {
     private static final List<String> KCAL_KEYS = List.of("enerc", "kcal", "NUTR_CONT1", "에너지(kcal)", "에너지(KCAL)",
             "에너지kcal");
 
+    // 응답 본문 디버그 로그: 1% 샘플, 2000자까지
+    private static final double BODY_LOG_SAMPLE_RATE = 0.01;
+    private static final int BODY_LOG_MAX_CHARS = 2000;
+
     private final FoodClient client;
-    private final ObjectMapper om = new ObjectMapper();
+    private final JsonCodecs codecs;
+    private final LogThrottle failureLog = new LogThrottle(Duration.ofSeconds(30));
 
-    public FoodService(FoodClient client) {
+    public FoodService(FoodClient client, JsonCodecs codecs) {
         this.client = client;
+        this.codecs = codecs;
     }
 
     // 식품명으로 영양성분 정보 검색
@@ -45,32 +55,24 @@ public class FoodService {
             }
             try {
                 String body = client.searchByName(query, pageSafe, perPageSafe);
-                
-                System.out.println("➡️ 공공데이터 API 응답 (키워드: " + query + "): " + body);
-                
-                JsonNode root = om.readTree(body);
-
-                // API 응답 에러 체크
-                JsonNode header = root.path("response").path("header");
-                String resultCode = header.path("resultCode").asText("");
-                
-                if ("00".equals(resultCode)) {
-                    // 성공적으로 데이터를 받으면 파싱하여 모든 후보 목록에 추가
-                    parseFoodData(root).forEach(dto -> allCandidates.putIfAbsent(dto.getFoodNm(), dto));
-                } else if (!"03".equals(resultCode)) {
-                    // 데이터 없음(03) 외 다른 오류는 예외를 발생시킵니다.
-                    String msg = header.path("resultMsg").asText("");
-                    throw new IllegalStateException("공공데이터 오류: " + resultCode + " / " + msg);
+                if (log.isDebugEnabled() && LogThrottle.sample(BODY_LOG_SAMPLE_RATE)) {
+                    log.debug("공공데이터 API 응답 (키워드: {}): {}", query, LogThrottle.truncate(body, BODY_LOG_MAX_CHARS));
                 }
 
+                // 성공적으로 데이터를 받으면 파싱하여 모든 후보 목록에 추가
+                parseSearchResponse(codecs.readTree(body)).forEach(dto -> allCandidates.putIfAbsent(dto.getFoodNm(), dto));
+
             } catch (Exception e) {
                 String msg = e.getMessage() == null ? e.toString() : e.getMessage();
-                System.err.println("❌ 키워드 '" + query + "' 파싱 실패: " + msg);
+                long suppressed = failureLog.tryAcquire();
+                if (suppressed >= 0) {
+                    log.warn("키워드 '{}' 검색/파싱 실패: {} (suppressed since last: {})", query, msg, suppressed);
+                }
             }
         }
         
         if (allCandidates.isEmpty()) {
-            System.out.println("⚠️ 모든 키워드 검색 실패. 빈 목록을 반환합니다.");
+            log.debug("모든 키워드 검색 결과 없음: '{}'", q);
             return List.of();
         }
 
@@ -78,8 +80,25 @@ public class FoodService {
         return rankAndFilterResults(new ArrayList<>(allCandidates.values()), q, perPageSafe);
     }
     
+    // 공공데이터 API 응답 -> 후보 목록 (ReactiveFoodService 와 공용)
+    static List<FoodDTO> parseSearchResponse(JsonNode root) {
+        // API 응답 에러 체크
+        JsonNode header = root.path("response").path("header");
+        String resultCode = header.path("resultCode").asText("");
+
+        if ("00".equals(resultCode)) {
+            return parseFoodData(root);
+        }
+        if (!"03".equals(resultCode)) {
+            // 데이터 없음(03) 외 다른 오류는 예외를 발생시킵니다.
+            String msg = header.path("resultMsg").asText("");
+            throw new IllegalStateException("공공데이터 오류: " + resultCode + " / " + msg);
+        }
+        return List.of();
+    }
+
     // 다양한 검색 키워드 조합을 생성하는 헬퍼 메서드
-    private List<String> createSearchQueries(String originalQuery) {
+    static List<String> createSearchQueries(String originalQuery) {
         List<String> queries = new ArrayList<>();
         // 1. 원본 키워드 (띄어쓰기 포함)
         queries.add(originalQuery);
@@ -97,7 +116,7 @@ public class FoodService {
     }
 
     // JSON 데이터를 FoodDTO로 파싱하는 헬퍼 메서드
-    private List<FoodDTO> parseFoodData(JsonNode root) {
+    static List<FoodDTO> parseFoodData(JsonNode root) {
         Map<String, FoodDTO> dedup = new LinkedHashMap<>();
 
         JsonNode records = root.path("records");
@@ -128,7 +147,7 @@ public class FoodService {
     }
 
     // 검색 결과에 순위를 매기고 상위 결과를 반환합니다.
-    private List<FoodDTO> rankAndFilterResults(List<FoodDTO> candidates, String originalQuery, int perPage) {
+    static List<FoodDTO> rankAndFilterResults(List<FoodDTO> candidates, String originalQuery, int perPage) {
         String[] originalWords = originalQuery.toLowerCase().split("\\s+");
         
         return candidates.stream()
@@ -161,7 +180,7 @@ public class FoodService {
     }
 
     // JSON 노드에서 식품 정보 추출하여 맵에 추가
-    private void addIfPresent(Map<String, FoodDTO> out, JsonNode n) {
+    private static void addIfPresent(Map<String, FoodDTO> out, JsonNode n) {
         if (n == null || n.isNull())
             return;
         String name = firstText(n, NAME_KEYS);
@@ -187,7 +206,7 @@ public class FoodService {
     }
 
     // 여러 키 중에서 첫 번째로 찾은 숫자 값 반환
-    private static Double firstNumber(JsonNode n, List<String> keys) {
+    static Double firstNumber(JsonNode n, List<String> keys) {
         for (String k : keys) {
             JsonNode v = n.get(k);
             if (v == null || v.isNull())
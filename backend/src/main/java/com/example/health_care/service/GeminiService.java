@@ -2,37 +2,57 @@ package com.example.health_care.service;
 
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
 import com.example.health_care.config.GeminiClient;
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.config.LogThrottle;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import java.time.Duration;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Collections;
 import java.util.ArrayList;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Gemini API 호출 로직을 담당하는 서비스 클래스입니다.
  * GeminiClient 클래스를 주입받아 API 키를 사용합니다.
  */
+@Slf4j
 @Component
 public class GeminiService {
 
+    // URI 템플릿으로 호출해야 http.client.requests 의 uri 태그에 키가 들어가지 않음
+    static final String GENERATE_PATH = "/v1beta/models/{model}:generateContent?key={key}";
+    static final String MODEL = "gemini-1.5-flash";
+
     private final GeminiClient geminiClient;
     private final RestTemplate restTemplate;
 
     @Autowired
-    public GeminiService(GeminiClient geminiClient) {
+    public GeminiService(GeminiClient geminiClient, RestTemplateBuilder restTemplateBuilder) {
         this.geminiClient = geminiClient;
-        this.restTemplate = new RestTemplate();
+        // 자동 구성 빌더로 만들어 http.client.requests 계측 (이미지 분석은 오래 걸려 읽기 타임아웃을 길게)
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(60))
+                .build();
     }
 
     /**
@@ -44,8 +64,38 @@ public class GeminiService {
      * @throws Exception API 호출 실패 또는 타임아웃 발생 시
      */
     public String callGeminiApi(String imageData, String mimeType, String prompt) {
-        String apiUrl = geminiClient.getBaseUrl() + "/v1beta/models/gemini-1.5-flash:generateContent?key=" + geminiClient.getKey();
+        String apiUrl = geminiClient.getBaseUrl() + GENERATE_PATH;
+
+        Map<String, Object> body = requestBody(imageData, mimeType, prompt);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class, MODEL,
+                    geminiClient.getKey());
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return response.getBody();
+            }
+            throw new Exception("Failed to get a successful response from Gemini API.");
+        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            log.warn("Gemini API 오류 응답: status={} body={}", e.getStatusCode(),
+                    LogThrottle.truncate(e.getResponseBodyAsString(), 1000));
+            throw new RuntimeException("Gemini API 응답 오류: " + e.getResponseBodyAsString(), e);
+        } catch (ResourceAccessException e) {
+            log.warn("Gemini API 연결/타임아웃 오류: {}", e.getMessage());
+            throw new RuntimeException("네트워크 연결 또는 타임아웃 오류", e);
+        } catch (Exception e) {
+            log.error("Gemini API 호출 실패", e);
+            throw new RuntimeException("Error calling Gemini API: " + e.getMessage(), e);
+        }
+    }
 
+    // generateContent 요청 본문 (ReactiveGeminiService 와 공용)
+    static Map<String, Object> requestBody(String imageData, String mimeType, String prompt) {
         List<Map<String, Object>> parts = new ArrayList<>();
 
         Map<String, Object> textPart = new HashMap<>();
@@ -72,28 +122,40 @@ public class GeminiService {
             }
         });
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        return body;
+    }
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+    /**
+     * generateContent 응답에서 모델이 만든 JSON 만 꺼내 dish / calories 기본값을 채웁니다.
+     * (블로킹/리액티브 컨트롤러 공용)
+     */
+    public static String toAnalysisJson(JsonCodecs codecs, String response) throws JsonProcessingException {
+        JsonNode root = codecs.readTree(response);
+        String text = root.at("/candidates/0/content/parts/0/text").asText();
+
+        // JSON 문자열만 추출
+        if (text.startsWith("```json")) {
+            int startIndex = text.indexOf('{');
+            int endIndex = text.lastIndexOf('}');
+            if (startIndex != -1 && endIndex != -1) {
+                text = text.substring(startIndex, endIndex + 1);
+            }
+        }
 
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
+        JsonNode jsonResponse = codecs.readTree(text);
+        ObjectNode mutableJsonResponse = JsonNodeFactory.instance.objectNode();
+        mutableJsonResponse.setAll((ObjectNode) jsonResponse);
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return response.getBody();
-            }
-            throw new Exception("Failed to get a successful response from Gemini API.");
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            System.err.println("Gemini API Error Status: " + e.getStatusCode());
-            System.err.println("Gemini API Error Body: " + e.getResponseBodyAsString());
-            throw new RuntimeException("Gemini API 응답 오류: " + e.getResponseBodyAsString(), e);
-        } catch (ResourceAccessException e) {
-            System.err.println("Network/Connection Error: " + e.getMessage());
-            throw new RuntimeException("네트워크 연결 또는 타임아웃 오류", e);
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Error calling Gemini API: " + e.getMessage(), e);
+        // dish 필드가 없는 경우 기본값 설정
+        if (!mutableJsonResponse.has("dish")) {
+            mutableJsonResponse.put("dish", "알 수 없는 음식");
         }
+
+        // 반환 전에 calories가 없으면 0으로 설정
+        if (!mutableJsonResponse.has("calories")) {
+            mutableJsonResponse.put("calories", 0);
+        }
+
+        return mutableJsonResponse.toString();
     }
-}
\ No newline at end of file
+}
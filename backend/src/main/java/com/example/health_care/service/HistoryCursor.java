@@ -0,0 +1,50 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.example.health_care.dto.HistoryPageDTO;
+
+// 히스토리 키셋 커서 "<record_date epoch millis>_<idx>" (최신순이므로 다음 페이지는 이 키보다 작은 행)
+record HistoryCursor(Date recordDate, long idx) {
+
+    static final int DEFAULT_SIZE = 100;
+    static final int MAX_SIZE = 500;
+
+    // 첫 페이지: 모든 행보다 큰 키
+    private static final HistoryCursor FIRST = new HistoryCursor(
+            Date.from(LocalDate.of(9999, 12, 31).atStartOfDay(ZoneId.systemDefault()).toInstant()), Long.MAX_VALUE);
+
+    static HistoryCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        String[] parts = cursor.split("_");
+        try {
+            return new HistoryCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    static int pageSize(Integer size) {
+        return size == null ? DEFAULT_SIZE : Math.min(Math.max(1, size), MAX_SIZE);
+    }
+
+    static <T> HistoryPageDTO<T> page(List<T> rows, int pageSize, Function<T, Date> recordDate,
+            ToLongFunction<T> idx) {
+        String nextCursor = null;
+        if (rows.size() == pageSize) {
+            T last = rows.get(rows.size() - 1);
+            nextCursor = recordDate.apply(last).getTime() + "_" + idx.applyAsLong(last);
+        }
+        return HistoryPageDTO.<T>builder()
+                .content(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
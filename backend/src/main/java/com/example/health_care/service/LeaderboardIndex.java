@@ -0,0 +1,393 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.health_care.repository.RankingRepository;
+import com.example.health_care.repository.RankingRepository.RankingRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 랭킹 인덱스.
+ * (score 내림차순, customerIdx 오름차순) 으로 정렬된 순서 통계 트리(treap)에 고객별 점수를 보관하고,
+ * 순위 조회 / 상위 K 명 / 내 주변 순위를 O(log n) 으로 응답합니다.
+ *
+ * 기동 시 DB 에서 한 번 재구성하고, 이후에는 {@link RankingChangedEvent} 를 받은 고객 1명만
+ * 커밋 이후 다시 집계해서 갱신합니다. 재구성 전체 조회 중에 끝난 고객 갱신은 기록해 두었다가
+ * 조회 결과를 넣은 뒤 다시 적용합니다 (먼저 시작한 전체 조회의 옛 값이 더 새로운 갱신을 덮어쓰지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardIndex {
+
+    private final RankingRepository rankingRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 고객별 refresh 순서 보장용 (고객 idx 해시로 나눈 잠금, DB 조회를 잡고 있으므로 synchronized 대신 ReentrantLock)
+    private final ReentrantLock[] refreshLocks = newLocks(64);
+    private final OrderStatisticTree tree = new OrderStatisticTree();
+    private final Map<Long, Standing> byIdx = new HashMap<>();
+    private final Map<String, Long> idxByCustomerId = new HashMap<>();
+    // 재구성 조회 중에 반영된 고객별 최신 갱신 (empty = 랭킹에서 빠짐). lock 하에서만 접근
+    private final Map<Long, Optional<Standing>> refreshedDuringRebuild = new HashMap<>();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+    // 재구성 / 갱신마다 증가 (랭킹 ETag). 인스턴스마다 인덱스가 따로라 인스턴스 ID 를 붙여서 비교
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private volatile long version = 0;
+
+    // 고객 1명의 랭킹 정보 (score 는 0~10000)
+    public record Standing(long customerIdx, String customerId, long score, Integer age, String gender,
+            Double height, Double weight, Double startWeight, Double targetWeight, Integer targetCalories) {
+
+        static Standing from(RankingRow row) {
+            return new Standing(row.getCustomerIdx(), row.getCustomerId(),
+                    row.getScore() == null ? 0L : row.getScore(), row.getAge(), row.getGender(),
+                    row.getHeight(), row.getWeight(), row.getStartWeight(), row.getTargetWeight(),
+                    row.getTargetCalories());
+        }
+    }
+
+    // 순위가 매겨진 항목 (동점자는 같은 순위)
+    public record Ranked(long rank, Standing standing) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 준비 전에는 DB 집계로 응답하므로 버전 없음
+    public String version() {
+        return ready ? instanceId + "." + version : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            refreshedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<RankingRow> rows;
+        try {
+            rows = rankingRepository.findAllRanked();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                refreshedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            byIdx.clear();
+            idxByCustomerId.clear();
+            for (RankingRow row : rows) {
+                put(Standing.from(row));
+            }
+            refreshedDuringRebuild.forEach((customerIdx, standing) -> {
+                remove(customerIdx);
+                standing.ifPresent(this::put);
+            });
+            refreshedDuringRebuild.clear();
+            rebuilding = false;
+            version++;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[RANKING] leaderboard rebuilt: {} customers", rows.size());
+    }
+
+    // 커밋된 변경만 반영 (롤백된 트랜잭션은 무시)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRankingChanged(RankingChangedEvent event) {
+        refresh(event.customerIdx());
+    }
+
+    public void refresh(Long customerIdx) {
+        // 같은 고객의 갱신은 (DB 조회 -> 반영) 을 한 덩어리로 직렬화: 둘 다 커밋 후에 실행되므로
+        // 뒤에 조회하는 쪽이 항상 최신 상태를 읽고 마지막에 반영됨 (조회만 먼저 하면 오래된 값이 나중에 덮어쓸 수 있음)
+        ReentrantLock customerLock = refreshLocks[Math.floorMod(Long.hashCode(customerIdx), refreshLocks.length)];
+        customerLock.lock();
+        try {
+            Optional<Standing> standing = rankingRepository.findStanding(customerIdx).map(Standing::from);
+            lock.writeLock().lock();
+            try {
+                remove(customerIdx);
+                standing.ifPresent(this::put);
+                if (rebuilding) {
+                    refreshedDuringRebuild.put(customerIdx, standing);
+                }
+                version++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            customerLock.unlock();
+        }
+    }
+
+    // (afterScore, afterIdx) 커서 다음부터 size 명
+    public List<Ranked> page(long afterScore, long afterIdx, int size) {
+        lock.readLock().lock();
+        try {
+            int from = tree.countUpTo(afterScore, afterIdx);
+            return rankedRange(from, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Ranked> find(String customerId) {
+        lock.readLock().lock();
+        try {
+            Standing s = standingOf(customerId);
+            return s == null ? Optional.empty() : Optional.of(new Ranked(rankOf(s.score()), s));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 내 위/아래 window 명씩
+    public List<Ranked> around(String customerId, int window) {
+        lock.readLock().lock();
+        try {
+            Standing s = standingOf(customerId);
+            if (s == null) {
+                return List.of();
+            }
+            int position = tree.countBefore(s.score(), s.customerIdx());
+            int from = Math.max(0, position - window);
+            return rankedRange(from, position - from + window + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Ranked> rankedRange(int from, int count) {
+        List<Long> ids = tree.range(from, count);
+        List<Ranked> result = new ArrayList<>(ids.size());
+        long prevScore = -1;
+        long rank = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            Standing s = byIdx.get(ids.get(i));
+            // 첫 항목만 트리에서 순위를 구하고, 이후는 점수가 바뀔 때 위치로 순위를 매김
+            if (i == 0) {
+                rank = rankOf(s.score());
+            } else if (s.score() != prevScore) {
+                rank = from + i + 1;
+            }
+            prevScore = s.score();
+            result.add(new Ranked(rank, s));
+        }
+        return result;
+    }
+
+    // 동점 처리 순위 = 나보다 점수가 높은 사람 수 + 1
+    private long rankOf(long score) {
+        return tree.countBefore(score, Long.MIN_VALUE) + 1L;
+    }
+
+    private Standing standingOf(String customerId) {
+        Long idx = idxByCustomerId.get(customerId);
+        return idx == null ? null : byIdx.get(idx);
+    }
+
+    private void put(Standing s) {
+        byIdx.put(s.customerIdx(), s);
+        idxByCustomerId.put(s.customerId(), s.customerIdx());
+        tree.insert(s.score(), s.customerIdx());
+    }
+
+    private void remove(Long customerIdx) {
+        Standing old = byIdx.remove(customerIdx);
+        if (old != null) {
+            idxByCustomerId.remove(old.customerId());
+            tree.delete(old.score(), old.customerIdx());
+        }
+    }
+
+    private static ReentrantLock[] newLocks(int n) {
+        ReentrantLock[] locks = new ReentrantLock[n];
+        for (int i = 0; i < n; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * 크기 정보를 가진 treap. 키는 (score, idx) 이며 score 내림차순, idx 오름차순으로 정렬됩니다.
+     * 외부 동기화(LeaderboardIndex 의 lock) 하에서만 사용합니다.
+     */
+    static final class OrderStatisticTree {
+
+        private static final class Node {
+            final long score;
+            final long idx;
+            final int priority = ThreadLocalRandom.current().nextInt();
+            Node left;
+            Node right;
+            int size = 1;
+
+            Node(long score, long idx) {
+                this.score = score;
+                this.idx = idx;
+            }
+        }
+
+        private Node root;
+
+        int size() {
+            return size(root);
+        }
+
+        void clear() {
+            root = null;
+        }
+
+        void insert(long score, long idx) {
+            Node[] parts = split(root, score, idx);
+            root = merge(merge(parts[0], new Node(score, idx)), parts[1]);
+        }
+
+        void delete(long score, long idx) {
+            root = delete(root, score, idx);
+        }
+
+        // 키 (score, idx) 보다 앞에 있는 노드 수
+        int countBefore(long score, long idx) {
+            int count = 0;
+            Node t = root;
+            while (t != null) {
+                if (compare(t.score, t.idx, score, idx) < 0) {
+                    count += size(t.left) + 1;
+                    t = t.right;
+                } else {
+                    t = t.left;
+                }
+            }
+            return count;
+        }
+
+        // 키 (score, idx) 이하인 노드 수
+        int countUpTo(long score, long idx) {
+            int count = 0;
+            Node t = root;
+            while (t != null) {
+                if (compare(t.score, t.idx, score, idx) <= 0) {
+                    count += size(t.left) + 1;
+                    t = t.right;
+                } else {
+                    t = t.left;
+                }
+            }
+            return count;
+        }
+
+        // 0부터 시작하는 위치 from 부터 count 개의 idx (O(log n + count))
+        List<Long> range(int from, int count) {
+            List<Long> out = new ArrayList<>(Math.max(0, Math.min(count, size() - from)));
+            collect(root, from, from + count, 0, out);
+            return out;
+        }
+
+        private void collect(Node t, int from, int to, int offset, List<Long> out) {
+            if (t == null || offset >= to || offset + t.size <= from) {
+                return;
+            }
+            collect(t.left, from, to, offset, out);
+            int position = offset + size(t.left);
+            if (position >= from && position < to) {
+                out.add(t.idx);
+            }
+            collect(t.right, from, to, position + 1, out);
+        }
+
+        private Node delete(Node t, long score, long idx) {
+            if (t == null) {
+                return null;
+            }
+            int c = compare(score, idx, t.score, t.idx);
+            if (c == 0) {
+                return merge(t.left, t.right);
+            }
+            if (c < 0) {
+                t.left = delete(t.left, score, idx);
+            } else {
+                t.right = delete(t.right, score, idx);
+            }
+            update(t);
+            return t;
+        }
+
+        // [키 미만, 키 이상] 으로 분할
+        private Node[] split(Node t, long score, long idx) {
+            if (t == null) {
+                return new Node[] { null, null };
+            }
+            if (compare(t.score, t.idx, score, idx) < 0) {
+                Node[] parts = split(t.right, score, idx);
+                t.right = parts[0];
+                update(t);
+                return new Node[] { t, parts[1] };
+            }
+            Node[] parts = split(t.left, score, idx);
+            t.left = parts[1];
+            update(t);
+            return new Node[] { parts[0], t };
+        }
+
+        private Node merge(Node a, Node b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            if (a.priority > b.priority) {
+                a.right = merge(a.right, b);
+                update(a);
+                return a;
+            }
+            b.left = merge(a, b.left);
+            update(b);
+            return b;
+        }
+
+        private static int compare(long aScore, long aIdx, long bScore, long bIdx) {
+            if (aScore != bScore) {
+                return aScore > bScore ? -1 : 1;
+            }
+            return Long.compare(aIdx, bIdx);
+        }
+
+        private static int size(Node t) {
+            return t == null ? 0 : t.size;
+        }
+
+        private static void update(Node t) {
+            t.size = 1 + size(t.left) + size(t.right);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.health_care.dto.DietRecordDTO.MealItem;
+import com.example.health_care.entity.MealType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 기존 RECORD.meal_details JSON ({"morning": [{"food", "calories", "timestamp"}], ...}) 파서.
+ * meal_item 백필과, 백필이 끝나기 전 조회 시 병합에 사용합니다.
+ */
+final class LegacyMealDetails {
+
+    private LegacyMealDetails() {
+    }
+
+    static Map<MealType, List<MealItem>> parse(ObjectMapper objectMapper, String json) {
+        Map<MealType, List<MealItem>> result = new EnumMap<>(MealType.class);
+        if (json == null || json.isBlank()) {
+            return result;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            for (MealType type : MealType.values()) {
+                JsonNode list = root.path(type.key());
+                if (!list.isArray()) {
+                    continue;
+                }
+                List<MealItem> items = new ArrayList<>(list.size());
+                for (JsonNode node : list) {
+                    items.add(new MealItem(
+                            node.path("food").asText(null),
+                            node.path("calories").asLong(0L),
+                            node.hasNonNull("timestamp") ? node.get("timestamp").asLong() : null));
+                }
+                result.put(type, items);
+            }
+            return result;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("meal_details JSON 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.health_care.service;
+
+import java.time.LocalDateTime;
+
+import com.example.health_care.entity.MealType;
+
+// 저장 대기/저장할 음식 1개 (write-behind 버퍼와 저널에도 이 형태로 보관)
+// writeKey: write-behind 저널 항목 id (meal_item.write_key 유니크, 저널 재처리 시 이미 저장된 항목은 건너뜀). 바로 저장하면 null
+public record MealEntry(MealType mealType, String food, long calories, LocalDateTime loggedAt, String writeKey) {
+
+    public MealEntry(MealType mealType, String food, long calories, LocalDateTime loggedAt) {
+        this(mealType, food, calories, loggedAt, null);
+    }
+
+    MealEntry withWriteKey(String writeKey) {
+        return new MealEntry(mealType, food, calories, loggedAt, writeKey);
+    }
+}
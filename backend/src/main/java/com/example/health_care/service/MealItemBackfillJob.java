@@ -0,0 +1,123 @@
+package com.example.health_care.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.health_care.dto.DietRecordDTO.MealItem;
+import com.example.health_care.entity.MealItemEntity;
+import com.example.health_care.entity.MealType;
+import com.example.health_care.entity.RecordEntity;
+import com.example.health_care.repository.MealItemRepository;
+import com.example.health_care.repository.RecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RECORD.meal_details JSON 을 meal_item 행으로 옮기는 온라인 백필.
+ * RECORD 1건씩 별도 트랜잭션으로 (행 잠금 + meal_details = null + meal_item insert) 처리하므로
+ * 여러 인스턴스에서 동시에 돌거나 실행이 겹쳐도 같은 RECORD 를 두 번 옮기지 않고,
+ * 서비스 중에도 실행할 수 있고, 중간에 멈춰도 다음 실행에서 남은 행부터 이어서 진행합니다.
+ * 마지막으로 처리한 idx 다음부터 읽으므로 (키셋) 파싱에 실패한 행이 앞쪽에 쌓여도 뒤의 행까지 진행하고,
+ * 실패한 행은 meal_details 가 그대로 남아 재기동 후 다음 패스에서 다시 시도합니다.
+ * 끼니별 합계(caloriesM/L/D)는 기존 코드가 이미 반영해 두었으므로 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diet.meal-item-backfill", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MealItemBackfillJob {
+
+    private final RecordRepository recordRepository;
+    private final MealItemRepository mealItemRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private volatile boolean done = false;
+    // 이번 패스에서 마지막으로 시도한 RECORD idx / 실패 수 (스케줄러 스레드에서만 접근)
+    private long lastIdx = 0L;
+    private int failed = 0;
+
+    public MealItemBackfillJob(RecordRepository recordRepository, MealItemRepository mealItemRepository,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${diet.meal-item-backfill.batch-size:100}") int batchSize) {
+        this.recordRepository = recordRepository;
+        this.mealItemRepository = mealItemRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${diet.meal-item-backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${diet.meal-item-backfill.fixed-delay-ms:60000}")
+    public void run() {
+        if (done) {
+            return;
+        }
+        List<Long> pending = recordRepository.findIdxWithMealDetails(lastIdx, PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            done = true;
+            if (failed > 0) {
+                log.warn("[BACKFILL] meal_details -> meal_item 완료, 실패 {}건은 meal_details 에 남음 (재기동 시 재시도)", failed);
+            } else {
+                log.info("[BACKFILL] meal_details -> meal_item 완료");
+            }
+            return;
+        }
+        int items = 0;
+        for (Long recordIdx : pending) {
+            lastIdx = recordIdx;
+            try {
+                items += transactionTemplate.execute(status -> migrate(recordIdx));
+            } catch (RuntimeException e) {
+                // 깨진 JSON 등은 건너뛰고 다음 RECORD 진행 (해당 행은 meal_details 가 남고 이번 패스에서는 다시 읽지 않음)
+                failed++;
+                log.warn("[BACKFILL] record idx={} 이전 실패: {}", recordIdx, e.getMessage());
+            }
+        }
+        log.info("[BACKFILL] records={}, meal_items={}", pending.size(), items);
+    }
+
+    int migrate(Long recordIdx) {
+        // 행 잠금 후 다시 확인: 다른 인스턴스가 먼저 옮겼으면 meal_details 가 이미 비어 있음
+        RecordEntity record = recordRepository.findForBackfill(recordIdx).orElse(null);
+        if (record == null || record.getMealDetails() == null) {
+            return 0;
+        }
+        String mealDetails = record.getMealDetails();
+        LocalDateTime fallback = LocalDateTime.ofInstant(record.getRecordDate().toInstant(), ZoneId.systemDefault());
+        List<MealItemEntity> rows = new ArrayList<>();
+        for (Map.Entry<MealType, List<MealItem>> meal : LegacyMealDetails
+                .parse(objectMapper, mealDetails).entrySet()) {
+            for (MealItem item : meal.getValue()) {
+                rows.add(MealItemEntity.builder()
+                        .record(record)
+                        .customer(record.getCustomer())
+                        .mealType(meal.getKey())
+                        .foodName(item.getFood())
+                        .calories(item.getCalories())
+                        .loggedAt(item.getTimestamp() == null ? fallback
+                                : LocalDateTime.ofInstant(Instant.ofEpochMilli(item.getTimestamp()),
+                                        ZoneId.systemDefault()))
+                        .build());
+            }
+        }
+        // 먼저 비우고 정확히 1행일 때만 insert (잠금을 우회한 동시 실행이 있어도 meal_item 이 두 번 생기지 않음)
+        if (recordRepository.clearMealDetails(recordIdx) != 1) {
+            return 0;
+        }
+        mealItemRepository.saveAll(rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.health_care.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.health_care.repository.CustomersRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영양 롤업 전체 재구성 (원본 RECORD / meal_item 기준).
+ * 고객 1명 = 트랜잭션 1개. 기본은 꺼져 있고 cron 또는 기동 시 1회 실행으로 켭니다
+ * (최초 도입 시, 또는 증분 갱신 밖에서 원본이 바뀐 뒤).
+ */
+@Slf4j
+@Component
+public class NutritionRollupRebuildJob {
+
+    private final CustomersRepository customersRepository;
+    private final NutritionRollupService rollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean onStartup;
+
+    public NutritionRollupRebuildJob(CustomersRepository customersRepository, NutritionRollupService rollupService,
+            PlatformTransactionManager transactionManager,
+            @Value("${nutrition.rollup.rebuild-on-startup:false}") boolean onStartup) {
+        this.customersRepository = customersRepository;
+        this.rollupService = rollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (onStartup) {
+            rebuildAll();
+        }
+    }
+
+    @Scheduled(cron = "${nutrition.rollup.rebuild-cron:-}")
+    public void rebuildAll() {
+        List<Long> customerIdxs = customersRepository.findAllIdx();
+        int rows = 0;
+        for (Long customerIdx : customerIdxs) {
+            try {
+                rows += transactionTemplate.execute(status -> rollupService.rebuild(customerIdx));
+            } catch (RuntimeException e) {
+                log.warn("[ROLLUP] customer idx={} 재구성 실패: {}", customerIdx, e.getMessage());
+            }
+        }
+        log.info("[ROLLUP] rebuilt customers={}, rows={}", customerIdxs.size(), rows);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.health_care.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.health_care.dto.NutritionTrendDTO;
+import com.example.health_care.entity.CustomersEntity;
+import com.example.health_care.entity.GoalEntity;
+import com.example.health_care.entity.NutritionRollupEntity;
+import com.example.health_care.entity.RollupGrain;
+import com.example.health_care.repository.CustomersRepository;
+import com.example.health_care.repository.GoalRepository;
+import com.example.health_care.repository.MealItemRepository;
+import com.example.health_care.repository.MealItemRepository.DailyItemCountRow;
+import com.example.health_care.repository.NutritionRollupRepository;
+import com.example.health_care.repository.RecordRepository;
+import com.example.health_care.repository.RecordRepository.DailyCaloriesRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일/주/월 영양 롤업.
+ * 식단 저장 트랜잭션 안에서 {@link #apply} 로 증분 갱신하고, 추세 조회는 롤업 행만 읽어 O(구간 수) 로 응답합니다.
+ * 목표 달성일은 "칼로리를 기록한 날 중 하루 합계가 그 시점 최신 목표 칼로리 이하인 날" 입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NutritionRollupService {
+
+    private static final int MAX_BUCKETS = 400;
+    private static final LocalDate REBUILD_FROM = LocalDate.of(1970, 1, 1);
+    private static final LocalDate REBUILD_TO = LocalDate.of(9999, 12, 31);
+
+    private final CustomersRepository customersRepository;
+    private final GoalRepository goalRepository;
+    private final RecordRepository recordRepository;
+    private final MealItemRepository mealItemRepository;
+    private final NutritionRollupRepository rollupRepository;
+
+    // 식단 저장과 같은 트랜잭션에서 호출 (롤백되면 롤업도 함께 롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long customerIdx, LocalDate date, long morning, long lunch, long dinner, long items) {
+        LocalDate week = RollupGrain.WEEK.bucketStart(date);
+        LocalDate month = RollupGrain.MONTH.bucketStart(date);
+        rollupRepository.addCalories(customerIdx, date, week, month, morning, lunch, dinner, items);
+
+        // 하루 합계가 0 -> 양수가 되거나 목표선을 넘나들 때만 기록일/달성일 수 갱신
+        long after = rollupRepository.findDayTotal(customerIdx, date).orElse(0L);
+        long before = after - (morning + lunch + dinner);
+        Integer target = latestTargetCalories(customerIdx);
+        int daysLogged = (after > 0 ? 1 : 0) - (before > 0 ? 1 : 0);
+        int daysOnTarget = onTarget(after, target) - onTarget(before, target);
+        if (daysLogged != 0 || daysOnTarget != 0) {
+            rollupRepository.addDays(customerIdx, date, week, month, daysLogged, daysOnTarget);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public NutritionTrendDTO getTrend(String customerId, String grain, String from, String to) {
+        RollupGrain rollupGrain = RollupGrain.from(grain);
+        LocalDate fromDate = rollupGrain.bucketStart(parseLocalDate(from));
+        LocalDate toDate = parseLocalDate(to);
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("to 는 from 이후여야 합니다.");
+        }
+        ChronoUnit unit = switch (rollupGrain) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+        };
+        if (unit.between(fromDate, toDate) >= MAX_BUCKETS) {
+            throw new IllegalArgumentException("조회 구간은 최대 " + MAX_BUCKETS + "개입니다.");
+        }
+
+        CustomersEntity customer = customersRepository.findById(customerId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        List<NutritionRollupEntity> rows = rollupRepository
+                .findByCustomer_IdxAndGrainAndBucketStartBetweenOrderByBucketStartAsc(
+                        customer.getIdx(), rollupGrain, fromDate, toDate);
+
+        List<NutritionTrendDTO.Bucket> buckets = new ArrayList<>(rows.size());
+        for (NutritionRollupEntity row : rows) {
+            long total = row.getCaloriesM() + row.getCaloriesL() + row.getCaloriesD();
+            int days = row.getDaysLogged();
+            buckets.add(NutritionTrendDTO.Bucket.builder()
+                    .start(row.getBucketStart())
+                    .calories(total)
+                    .morning(row.getCaloriesM())
+                    .lunch(row.getCaloriesL())
+                    .dinner(row.getCaloriesD())
+                    .items(row.getItemCount())
+                    .daysLogged(days)
+                    .daysOnTarget(row.getDaysOnTarget())
+                    .averageCalories(days == 0 ? null : (double) total / days)
+                    .adherence(days == 0 ? null : (double) row.getDaysOnTarget() / days)
+                    .build());
+        }
+
+        return NutritionTrendDTO.builder()
+                .grain(rollupGrain.name().toLowerCase())
+                .from(fromDate)
+                .to(toDate)
+                .targetCalories(latestTargetCalories(customer.getIdx()))
+                .buckets(buckets)
+                .build();
+    }
+
+    // 원본(RECORD, meal_item) 에서 고객 1명의 롤업을 다시 계산 (호출자가 트랜잭션 제공)
+    // 목표 달성 여부는 현재 목표 칼로리 기준으로 다시 판정합니다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int rebuild(Long customerIdx) {
+        rollupRepository.deleteByCustomerIdx(customerIdx);
+
+        Map<LocalDate, long[]> days = new TreeMap<>(); // [아침, 점심, 저녁, 음식 수]
+        for (DailyCaloriesRow row : recordRepository.sumDailyCalories(customerIdx, REBUILD_FROM, REBUILD_TO)) {
+            long[] day = days.computeIfAbsent(toLocalDate(row.getDay()), d -> new long[4]);
+            day[0] += row.getMorning() == null ? 0L : row.getMorning();
+            day[1] += row.getLunch() == null ? 0L : row.getLunch();
+            day[2] += row.getDinner() == null ? 0L : row.getDinner();
+        }
+        for (DailyItemCountRow row : mealItemRepository.countDailyItems(customerIdx)) {
+            days.computeIfAbsent(toLocalDate(row.getDay()), d -> new long[4])[3] += row.getItems();
+        }
+
+        Integer target = latestTargetCalories(customerIdx);
+        CustomersEntity customer = customersRepository.getReferenceById(customerIdx);
+        Map<RollupGrain, Map<LocalDate, NutritionRollupEntity>> buckets = new EnumMap<>(RollupGrain.class);
+        days.forEach((date, day) -> {
+            long total = day[0] + day[1] + day[2];
+            for (RollupGrain grain : RollupGrain.values()) {
+                NutritionRollupEntity bucket = buckets
+                        .computeIfAbsent(grain, g -> new TreeMap<>())
+                        .computeIfAbsent(grain.bucketStart(date), start -> NutritionRollupEntity.builder()
+                                .customer(customer).grain(grain).bucketStart(start)
+                                .caloriesM(0L).caloriesL(0L).caloriesD(0L).itemCount(0L)
+                                .daysLogged(0).daysOnTarget(0)
+                                .build());
+                bucket.setCaloriesM(bucket.getCaloriesM() + day[0]);
+                bucket.setCaloriesL(bucket.getCaloriesL() + day[1]);
+                bucket.setCaloriesD(bucket.getCaloriesD() + day[2]);
+                bucket.setItemCount(bucket.getItemCount() + day[3]);
+                bucket.setDaysLogged(bucket.getDaysLogged() + (total > 0 ? 1 : 0));
+                bucket.setDaysOnTarget(bucket.getDaysOnTarget() + onTarget(total, target));
+            }
+        });
+
+        List<NutritionRollupEntity> rows = new ArrayList<>();
+        buckets.values().forEach(byStart -> rows.addAll(byStart.values()));
+        rollupRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    private Integer latestTargetCalories(Long customerIdx) {
+        return goalRepository.findTopByCustomer_IdxOrderByIdxDesc(customerIdx)
+                .map(GoalEntity::getTargetCalories)
+                .orElse(null);
+    }
+
+    private static int onTarget(long dayTotal, Integer target) {
+        return target != null && dayTotal > 0 && dayTotal <= target ? 1 : 0;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private static LocalDate parseLocalDate(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("잘못된 날짜 형식입니다.");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 날짜 형식입니다.");
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.health_care.service;
+
+// 고객의 체중/목표가 바뀌어 랭킹 점수를 다시 계산해야 할 때 발행
+public record RankingChangedEvent(Long customerIdx) {
+}
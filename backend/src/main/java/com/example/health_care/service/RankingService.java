@@ -1,49 +1,108 @@
 package com.example.health_care.service;
 
-import com.example.health_care.dto.CustomersProfileDTO;
-import com.example.health_care.entity.BodyEntity;
-import com.example.health_care.entity.CustomersEntity;
-import com.example.health_care.repository.CustomersRepository;
-import com.example.health_care.repository.BodyRepository;
+import com.example.health_care.dto.RankingEntryDTO;
+import com.example.health_care.dto.RankingPageDTO;
+import com.example.health_care.entity.Gender;
+import com.example.health_care.repository.RankingRepository;
+import com.example.health_care.service.LeaderboardIndex.Ranked;
+import com.example.health_care.service.LeaderboardIndex.Standing;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
-    private final CustomersRepository customersRepository;
-    private final BodyRepository bodyRepository;
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+    private static final int MAX_WINDOW = 50;
+    // score 는 0~10000 이므로 첫 페이지는 이보다 큰 값에서 시작
+    private static final long FIRST_PAGE_SCORE = 10001L;
 
-    public List<CustomersProfileDTO> getAllCustomersProfile() {
-        List<CustomersEntity> customers = customersRepository.findAll();
-        
-        return customers.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    private final RankingRepository rankingRepository;
+    private final LeaderboardIndex leaderboardIndex;
+
+    // 목표 달성률 순 랭킹 (커서 기반 페이지) + 로그인 사용자의 내 순위
+    // 인메모리 인덱스가 준비되기 전(기동 직후)에는 DB 집계 쿼리로 응답
+    @Transactional(readOnly = true)
+    public RankingPageDTO getLeaderboard(String cursor, Integer size, String customerId) {
+        int pageSize = size == null ? DEFAULT_SIZE : Math.min(Math.max(1, size), MAX_SIZE);
+
+        long afterScore = FIRST_PAGE_SCORE;
+        long afterIdx = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_");
+            try {
+                afterScore = Long.parseLong(parts[0]);
+                afterIdx = Long.parseLong(parts[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        List<Ranked> page;
+        Ranked me = null;
+        if (leaderboardIndex.isReady()) {
+            page = leaderboardIndex.page(afterScore, afterIdx, pageSize);
+            if (customerId != null) {
+                me = leaderboardIndex.find(customerId).orElse(null);
+            }
+        } else {
+            page = rankingRepository.findPage(afterScore, afterIdx, pageSize).stream()
+                    .map(row -> new Ranked(row.getRank(), Standing.from(row)))
+                    .toList();
+            if (customerId != null) {
+                me = rankingRepository.findByCustomerId(customerId)
+                        .map(row -> new Ranked(row.getRank(), Standing.from(row)))
+                        .orElse(null);
+            }
+        }
+
+        String nextCursor = null;
+        if (page.size() == pageSize) {
+            Standing last = page.get(page.size() - 1).standing();
+            nextCursor = last.score() + "_" + last.customerIdx();
+        }
+
+        return RankingPageDTO.builder()
+                .content(page.stream().map(this::convertToDto).toList())
+                .nextCursor(nextCursor)
+                .me(me == null ? null : convertToDto(me))
+                .build();
     }
 
-    private CustomersProfileDTO convertToDto(CustomersEntity customer) {
-        // CustomersEntity의 idx를 이용해 BodyRepository에서 최신 BodyEntity를 조회합니다.
-        Optional<BodyEntity> latestBodyOptional = bodyRepository.findTopByCustomer_IdxOrderByIdxDesc(customer.getIdx());
-
-        CustomersProfileDTO.CustomersProfileDTOBuilder dtoBuilder = CustomersProfileDTO.builder()
-                .id(customer.getId())
-                .weight(customer.getWeight())
-                .age(customer.getAge())
-                .gender(customer.getGender())
-                .height(customer.getHeight());
-
-        // 최신 BodyEntity가 존재하면 targetWeight와 targetCalories를 DTO에 추가합니다.
-        if (latestBodyOptional.isPresent()) {
-            BodyEntity latestBody = latestBodyOptional.get();
-            dtoBuilder.targetWeight(latestBody.getTargetWeight())
-                      .targetCalories(latestBody.getTargetCalories());
+    // GET /ranking 의 ETag 값 (인덱스 버전 + 요청자, 응답의 me 가 사용자마다 다름). 인덱스 준비 전이면 null
+    public String getLeaderboardVersion(String customerId) {
+        String version = leaderboardIndex.version();
+        if (version == null) {
+            return null;
         }
+        return version + "." + (customerId == null ? "-" : Integer.toHexString(customerId.hashCode()));
+    }
+
+    // 내 순위 위/아래 window 명씩
+    public List<RankingEntryDTO> getNeighborhood(String customerId, Integer window) {
+        int w = window == null ? 5 : Math.min(Math.max(0, window), MAX_WINDOW);
+        return leaderboardIndex.around(customerId, w).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
 
-        return dtoBuilder.build();
+    private RankingEntryDTO convertToDto(Ranked ranked) {
+        Standing s = ranked.standing();
+        return RankingEntryDTO.builder()
+                .rank(ranked.rank())
+                .id(s.customerId())
+                .progress(s.score() / 10000.0)
+                .weight(s.weight())
+                .startWeight(s.startWeight())
+                .age(s.age())
+                .gender(s.gender() == null ? null : Gender.valueOf(s.gender().trim()))
+                .height(s.height())
+                .targetWeight(s.targetWeight())
+                .targetCalories(s.targetCalories())
+                .build();
     }
-}
\ No newline at end of file
+}
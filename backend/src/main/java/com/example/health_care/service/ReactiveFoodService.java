@@ -0,0 +1,83 @@
+package com.example.health_care.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.health_care.config.FoodClient;
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.config.LogThrottle;
+import com.example.health_care.dto.FoodDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link FoodService} 의 WebClient 버전 (outbound.reactive.enabled=true).
+ * 키워드 변형들을 순서대로 하나씩 호출하던 것을 최대 VARIANT_CONCURRENCY 개까지 동시에 호출하고,
+ * 결과는 키워드 순서대로 합쳐 블로킹 버전과 같은 후보/순위를 만듭니다.
+ * 변형별로 timeout 을 두고 실패한 변형은 빈 결과로 대체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class ReactiveFoodService {
+
+    private static final int VARIANT_CONCURRENCY = 4;
+    private static final Duration VARIANT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final FoodClient client;
+    private final WebClient outboundWebClient;
+    private final JsonCodecs codecs;
+    private final LogThrottle failureLog = new LogThrottle(Duration.ofSeconds(30));
+
+    // 식품명으로 영양성분 정보 검색
+    public Mono<List<FoodDTO>> searchSimple(String name, int page, int perPage) {
+        String q = name == null ? "" : name.trim();
+        if (q.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        int pageSafe = Math.max(1, page);
+        int perPageSafe = Math.min(Math.max(1, perPage), 50);
+
+        return Flux.fromIterable(FoodService.createSearchQueries(q))
+                .filter(query -> !query.isEmpty())
+                // 동시에 호출하되 결과는 키워드 순서대로 (앞 키워드 결과가 우선)
+                .flatMapSequential(query -> searchVariant(query, pageSafe, perPageSafe), VARIANT_CONCURRENCY)
+                .collect(LinkedHashMap<String, FoodDTO>::new,
+                        (all, found) -> found.forEach(dto -> all.putIfAbsent(dto.getFoodNm(), dto)))
+                .map(all -> all.isEmpty()
+                        ? List.<FoodDTO>of()
+                        : FoodService.rankAndFilterResults(new ArrayList<>(all.values()), q, perPageSafe));
+    }
+
+    private Mono<List<FoodDTO>> searchVariant(String query, int page, int perPage) {
+        return outboundWebClient.get()
+                .uri(client.searchUri(query, page, perPage))
+                .accept(MediaType.APPLICATION_JSON)
+                .acceptCharset(StandardCharsets.UTF_8)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(VARIANT_TIMEOUT)
+                .flatMap(body -> Mono.fromCallable(() -> FoodService.parseSearchResponse(codecs.readTree(body))))
+                .onErrorResume(e -> {
+                    long suppressed = failureLog.tryAcquire();
+                    if (suppressed >= 0) {
+                        log.warn("키워드 '{}' 검색/파싱 실패: {} (suppressed since last: {})", query,
+                                e.getMessage() == null ? e.toString() : e.getMessage(), suppressed);
+                    }
+                    return Mono.just(List.of());
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.health_care.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.health_care.config.GeminiClient;
+import com.example.health_care.config.LogThrottle;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+// GeminiService 의 WebClient 버전 (outbound.reactive.enabled=true). 오류는 블로킹 버전과 같은 메시지로 변환
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class ReactiveGeminiService {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final GeminiClient geminiClient;
+    private final WebClient outboundWebClient;
+
+    public Mono<String> callGeminiApi(String imageData, String mimeType, String prompt) {
+        return outboundWebClient.post()
+                .uri(geminiClient.getBaseUrl() + GeminiService.GENERATE_PATH, GeminiService.MODEL, geminiClient.getKey())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(GeminiService.requestBody(imageData, mimeType, prompt))
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(TIMEOUT)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "Failed to get a successful response from Gemini API.")))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.warn("Gemini API 오류 응답: status={} body={}", e.getStatusCode(),
+                            LogThrottle.truncate(e.getResponseBodyAsString(), 1000));
+                    return new RuntimeException("Gemini API 응답 오류: " + e.getResponseBodyAsString(), e);
+                })
+                .onErrorMap(e -> e instanceof WebClientRequestException || e instanceof TimeoutException, e -> {
+                    log.warn("Gemini API 연결/타임아웃 오류: {}", e.getMessage());
+                    return new RuntimeException("네트워크 연결 또는 타임아웃 오류", e);
+                });
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.health_care.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.dto.YoutubeDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+// YoutubeService 의 WebClient 버전 (outbound.reactive.enabled=true). 실패/타임아웃 시 빈 목록
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbound.reactive", name = "enabled", havingValue = "true")
+public class ReactiveYoutubeService {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Value("${YOUTUBE_API_KEY}")
+    private String apiKey;
+
+    @Value("${youtube.base-url:https://www.googleapis.com/youtube/v3}")
+    private String baseUrl;
+
+    private final WebClient outboundWebClient;
+    private final JsonCodecs codecs;
+
+    public Mono<List<YoutubeDTO>> searchVideos(String query) {
+        return outboundWebClient.get()
+                .uri(baseUrl + YoutubeService.SEARCH_PATH, query, apiKey)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(TIMEOUT)
+                .flatMap(body -> Mono.fromCallable(() -> YoutubeService.parseSearch(codecs.readTree(body))))
+                .onErrorResume(e -> {
+                    log.warn("YouTube 검색 실패: {}", e.getMessage());
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+}
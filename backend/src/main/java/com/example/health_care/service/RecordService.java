@@ -1,5 +1,7 @@
 package com.example.health_care.service;
 
+import com.example.health_care.dto.HistoryPageDTO;
+import com.example.health_care.dto.RecordHistoryItem;
 import com.example.health_care.dto.RecordRequest;
 import com.example.health_care.entity.CustomersEntity;
 import com.example.health_care.entity.GoalEntity;
@@ -7,12 +9,17 @@ import com.example.health_care.entity.RecordEntity;
 import com.example.health_care.repository.CustomersRepository;
 import com.example.health_care.repository.GoalRepository;
 import com.example.health_care.repository.RecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -25,10 +32,30 @@ public class RecordService {
     private final CustomersRepository customersRepository;
     private final GoalRepository goalRepository;
     private final RecordRepository recordRepository;
+    private final NutritionRollupService nutritionRollupService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_SAVE_ATTEMPTS = 5;
 
     // 💡 일일 식단 기록을 저장하는 메서드
-    @Transactional
+    // 같은 날 롤업 행을 동시에 처음 만들다 유니크 위반이 나면 트랜잭션을 새로 시작해 재시도 (다음 시도는 MERGE 의 UPDATE)
     public void saveRecordInfo(String customerId, RecordRequest recordRequest) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeRecord(customerId, recordRequest));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (!UniqueViolations.isUniqueViolation(e) || attempt >= MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("식단 기록 롤업 충돌, 재시도 {}/{}: {}", attempt, MAX_SAVE_ATTEMPTS, e.getMessage());
+                UniqueViolations.backoff(attempt);
+            }
+        }
+    }
+
+    private void writeRecord(String customerId, RecordRequest recordRequest) {
         CustomersEntity customer = customersRepository.findById(customerId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
@@ -46,14 +73,30 @@ public class RecordService {
                 .build();
 
         recordRepository.save(recordEntity);
+        nutritionRollupService.apply(customer.getIdx(), LocalDate.now(),
+                nullToZero(recordRequest.getCaloriesM()),
+                nullToZero(recordRequest.getCaloriesL()),
+                nullToZero(recordRequest.getCaloriesD()), 0);
     }
 
-    // 💡 일일 식단 기록 이력을 조회하는 메서드
+    // 💡 일일 식단 기록 이력을 조회하는 메서드 (최신순 키셋 페이지, meal_details LOB 제외)
     @Transactional(readOnly = true)
-    public List<RecordEntity> getRecordHistory(String customerId) {
+    public HistoryPageDTO<RecordHistoryItem> getRecordHistory(String customerId, String cursor, Integer size) {
+        HistoryCursor after = HistoryCursor.parse(cursor);
+        int pageSize = HistoryCursor.pageSize(size);
+
         CustomersEntity customer = customersRepository.findById(customerId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
-        return recordRepository.findByCustomer_IdxOrderByIdxDesc(customer.getIdx());
+        List<RecordHistoryItem> rows = meterRegistry.timer("history.query", "type", "record")
+                .record(() -> recordRepository.findHistoryPage(customer.getIdx(), after.recordDate(), after.idx(),
+                        PageRequest.of(0, pageSize)));
+        meterRegistry.summary("history.page.rows", "type", "record").record(rows.size());
+
+        return HistoryCursor.page(rows, pageSize, RecordHistoryItem::recordDate, RecordHistoryItem::idx);
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,6 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +15,7 @@ import com.example.health_care.entity.RecoveryQuestionCode;
 import com.example.health_care.repository.CustomersRepository;
 import com.example.health_care.repository.RecoveryRepository;
 import com.example.health_care.security.JwtTokenProvider;
+import com.example.health_care.security.PasswordHasher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +28,7 @@ public class RecoveryService {
 
     private final RecoveryRepository repo;
     private final CustomersRepository customersRepo;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher encoder;
     private final CustomersService customersService;
     private final TokenTool tokenTool;
 
@@ -59,14 +59,23 @@ public class RecoveryService {
         // String 이메일(id)을 Long idx로 변환
         Long customerIdx = getCustomerIdx(customerId);
 
+        // 답변 해싱은 전용 풀에서 병렬로 수행
+        List<String> hashes = encoder.encodeAll(items.stream().map(it -> norm(it.getAnswer())).toList());
+
+        // 기존 답은 한 번에 읽어 둠: 코드별로 조회하면 조회마다 앞의 insert 가 먼저 flush 되어 배치로 묶이지 않음
+        Map<RecoveryQuestionCode, RecoveryEntity> existing = new EnumMap<>(RecoveryQuestionCode.class);
+        for (RecoveryEntity e : repo.findByCustomerId(customerIdx)) {
+            existing.put(e.getCode(), e);
+        }
+
         // 저장(3개)
-        for (var it : items) {
-            var opt = repo.findByCustomerIdAndCode(customerIdx, it.getCode());
-            RecoveryEntity e = opt.orElseGet(() -> RecoveryEntity.builder()
+        for (int i = 0; i < items.size(); i++) {
+            var it = items.get(i);
+            RecoveryEntity e = Optional.ofNullable(existing.get(it.getCode())).orElseGet(() -> RecoveryEntity.builder()
                     .customerId(customerIdx)
                     .code(it.getCode())
                     .build());
-            e.setAnswerHash(encoder.encode(norm(it.getAnswer())));
+            e.setAnswerHash(hashes.get(i));
             e.setUpdatedAt(LocalDateTime.now());
             repo.save(e);
         }
@@ -91,14 +100,17 @@ public class RecoveryService {
         List<RecoveryEntity> all = repo.findByCustomerId(customerIdx);
         Map<RecoveryQuestionCode, String> hashByCode = all.stream()
                 .collect(Collectors.toMap(RecoveryEntity::getCode, RecoveryEntity::getAnswerHash));
+        List<String> answers = new ArrayList<>(provided.size());
+        List<String> hashes = new ArrayList<>(provided.size());
         for (var entry : provided.entrySet()) {
-            RecoveryQuestionCode code = entry.getKey();
-            String ans = norm(entry.getValue());
-            String hash = hashByCode.get(code);
-            if (hash == null || !encoder.matches(ans, hash))
+            String hash = hashByCode.get(entry.getKey());
+            if (hash == null)
                 return false;
+            answers.add(norm(entry.getValue()));
+            hashes.add(hash);
         }
-        return true;
+        // 답변 검증은 전용 풀에서 병렬로 수행
+        return encoder.matchesAll(answers, hashes);
     }
 
     // 단기 토큰 발급/검증은 TokenTool 위임
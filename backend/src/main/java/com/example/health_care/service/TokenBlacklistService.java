@@ -16,7 +16,8 @@ public class TokenBlacklistService {
 
     private final BlacklistedTokenRepository repository;
 
-    @Transactional(readOnly = true)
+    // 읽기 전용이면 복제본으로 갈 수 있어 로그아웃 직후 토큰이 복제 지연만큼 더 통과함 -> primary 에서 확인
+    @Transactional
     public boolean isBlacklisted(String token) {
         return repository.existsByToken(token);
     }
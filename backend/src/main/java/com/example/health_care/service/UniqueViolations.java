@@ -0,0 +1,52 @@
+package com.example.health_care.service;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * 예외 원인 중에 유니크 제약 위반이 있는지 판별합니다.
+ * 동시 insert 충돌만 재시도하고 FK / NOT NULL / 길이 위반은 바로 실패시키는 데 사용합니다.
+ * 재시도 전 대기({@link #backoff(int)})도 여기서 함께 제공합니다.
+ */
+final class UniqueViolations {
+
+    private static final int ORACLE_UNIQUE_CONSTRAINT = 1; // ORA-00001
+    private static final String SQLSTATE_UNIQUE = "23505"; // H2, PostgreSQL
+
+    private UniqueViolations() {
+    }
+
+    static boolean isUniqueViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintKind.UNIQUE) {
+                return true;
+            }
+            if (cause instanceof SQLException sql
+                    && (sql.getErrorCode() == ORACLE_UNIQUE_CONSTRAINT || SQLSTATE_UNIQUE.equals(sql.getSQLState()))) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    // 유니크 충돌 재시도 전 짧은 랜덤 대기 (시도 횟수에 비례). 동시에 충돌한 요청끼리 다시 겹치지 않도록 흩뜨림
+    static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20) * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("식단 기록 재시도 중 인터럽트", e);
+        }
+    }
+}
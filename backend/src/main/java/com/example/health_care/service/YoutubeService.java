@@ -1,9 +1,10 @@
 package com.example.health_care.service;
 
+import com.example.health_care.config.JsonCodecs;
 import com.example.health_care.dto.YoutubeDTO;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -11,15 +12,21 @@ import org.springframework.web.client.RestTemplate;
 import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class YoutubeService {
+
+    static final String SEARCH_PATH = "/search?part=snippet&q={q}&maxResults=10&type=video&key={key}";
     
     @Value("${YOUTUBE_API_KEY}")
     private String apiKey;
+
+    @Value("${youtube.base-url:https://www.googleapis.com/youtube/v3}")
+    private String baseUrl;
     
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final JsonCodecs codecs;
     
     /**
      * YouTube 검색 API를 호출하여 영상 목록을 가져옵니다
@@ -28,40 +35,40 @@ public class YoutubeService {
      */
     public List<YoutubeDTO> searchVideos(String query) {
         try {
-            // YouTube Search API 호출
-            String url = String.format(
-                "https://www.googleapis.com/youtube/v3/search?part=snippet&q=%s&maxResults=10&type=video&key=%s",
-                query, apiKey
-            );
-            
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode items = rootNode.get("items");
-            
-            List<YoutubeDTO> videoList = new ArrayList<>();
-            
-            // 각 영상 정보를 DTO로 변환
-            for (JsonNode item : items) {
-                JsonNode snippet = item.get("snippet");
-                JsonNode id = item.get("id");
-                
-                YoutubeDTO dto = YoutubeDTO.builder()
-                    .videoId(id.get("videoId").asText())
-                    .title(snippet.get("title").asText())
-                    .channelTitle(snippet.get("channelTitle").asText())
-                    .thumbnail(snippet.get("thumbnails").get("medium").get("url").asText())
-                    .publishedAt(snippet.get("publishedAt").asText())
-                    .viewCount("조회수 정보 없음") // Search API에서는 조회수 제공 안함
-                    .build();
-                
-                videoList.add(dto);
-            }
-            
-            return videoList;
+            // YouTube Search API 호출 (URI 템플릿: 검색어 인코딩 + uri 태그에 키/검색어 미포함)
+            String response = restTemplate.getForObject(baseUrl + SEARCH_PATH, String.class, query, apiKey);
+            return parseSearch(codecs.readTree(response));
             
         } catch (Exception e) {
             // API 호출 실패 시 빈 리스트 반환
+            log.warn("YouTube 검색 실패: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
+
+    // Search API 응답 -> 영상 목록 (ReactiveYoutubeService 와 공용)
+    static List<YoutubeDTO> parseSearch(JsonNode rootNode) {
+        JsonNode items = rootNode.get("items");
+        
+        List<YoutubeDTO> videoList = new ArrayList<>();
+        
+        // 각 영상 정보를 DTO로 변환
+        for (JsonNode item : items) {
+            JsonNode snippet = item.get("snippet");
+            JsonNode id = item.get("id");
+            
+            YoutubeDTO dto = YoutubeDTO.builder()
+                .videoId(id.get("videoId").asText())
+                .title(snippet.get("title").asText())
+                .channelTitle(snippet.get("channelTitle").asText())
+                .thumbnail(snippet.get("thumbnails").get("medium").get("url").asText())
+                .publishedAt(snippet.get("publishedAt").asText())
+                .viewCount("조회수 정보 없음") // Search API에서는 조회수 제공 안함
+                .build();
+            
+            videoList.add(dto);
+        }
+        
+        return videoList;
+    }
 }
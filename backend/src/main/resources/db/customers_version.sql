@@ -0,0 +1,6 @@
+-- customers.version : 프로필 ETag / 낙관적 잠금용 버전 컬럼 (CustomersEntity @Version)
+-- ddl-auto: validate (faststart 프로파일) 로 기동하기 전에 먼저 실행하세요.
+ALTER TABLE customers ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
+
+-- 확인
+SELECT idx, id, version FROM customers WHERE ROWNUM <= 10;
@@ -0,0 +1,27 @@
+-- ==========================
+-- 즐겨찾기 50개 링 버퍼 (한 문장 MERGE 로 추가/교체)
+-- 파일명: favorite_ring.sql
+-- 가장 오래된 항목을 created_at 으로 고르므로 초 단위 DATE 대신 TIMESTAMP 로 바꿉니다.
+-- ==========================
+
+-- 1. created_at 정밀도
+ALTER TABLE favorite_food_info MODIFY (created_at TIMESTAMP DEFAULT SYSTIMESTAMP);
+
+-- 2. 동시 추가로 생긴 같은 (고객, 음식, 칼로리) 중복 정리 (가장 작은 idx 유지)
+DELETE FROM favorite_food_info
+ WHERE idx NOT IN (SELECT MIN(idx) FROM favorite_food_info GROUP BY customer_id, food_name, calories);
+
+-- 3. 고객당 최신 50개만 유지
+DELETE FROM favorite_food_info
+ WHERE idx IN (SELECT idx FROM (
+        SELECT idx, ROW_NUMBER() OVER (PARTITION BY customer_id ORDER BY created_at DESC, idx DESC) AS rn
+          FROM favorite_food_info)
+        WHERE rn > 50);
+
+-- 4. 중복 방지 + 고객별 최신순/가장 오래된 항목 조회용 인덱스
+CREATE UNIQUE INDEX uk_favorite_food ON favorite_food_info(customer_id, food_name, calories);
+CREATE INDEX idx_favorite_customer_created ON favorite_food_info(customer_id, created_at);
+DROP INDEX idx_favorite_food_info_customer;
+DROP INDEX idx_favorite_food_info_created_at;
+
+COMMIT;
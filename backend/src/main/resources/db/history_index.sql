@@ -0,0 +1,7 @@
+-- 히스토리 키셋 페이지용 인덱스: WHERE customer_id = ? AND (record_date, idx) < (?, ?) ORDER BY record_date DESC, idx DESC
+-- 인덱스만 역방향으로 읽고 필요한 페이지 크기만큼에서 멈춤 (정렬 없음)
+CREATE INDEX idx_body_history ON body(customer_id, record_date, idx);
+CREATE INDEX idx_record_history ON record(customer_id, record_date, idx);
+
+-- record(customer_id, record_date) 인덱스는 위 인덱스가 대신하므로 제거 가능
+DROP INDEX idx_record_customer_date;
@@ -0,0 +1,24 @@
+-- ==========================
+-- 식단 음식 1개 = 1행 (RECORD.meal_details JSON 대체)
+-- 파일명: meal_item.sql
+-- 기존 JSON 은 MealItemBackfillJob 이 서비스 중에 RECORD 단위로 옮기고 meal_details 를 비웁니다.
+-- ==========================
+
+CREATE SEQUENCE meal_item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE meal_item (
+    idx NUMBER PRIMARY KEY,
+    record_id NUMBER NOT NULL,
+    customer_id NUMBER NOT NULL,
+    meal_type VARCHAR2(10) NOT NULL, -- MORNING / LUNCH / DINNER
+    food_name VARCHAR2(100),
+    calories NUMBER(10),
+    logged_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (record_id) REFERENCES record(idx) ON DELETE CASCADE,
+    FOREIGN KEY (customer_id) REFERENCES customers(idx) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_meal_item_record ON meal_item(record_id, logged_at);
+
+-- 백필 진행 상황 (0 이 되면 완료)
+SELECT COUNT(*) FROM record WHERE meal_details IS NOT NULL;
@@ -0,0 +1,10 @@
+-- ==========================
+-- 식단 write-behind 저널 재처리 중복 방지
+-- 파일명: meal_item_write_key.sql
+-- 커밋 후 ACK 전에 죽어 같은 저널 항목이 다시 저장되면 유니크 위반 -> 서비스가 이미 저장된 항목을 건너뜀
+-- 바로 저장한 항목은 NULL (유니크 인덱스에 들어가지 않음)
+-- ==========================
+
+ALTER TABLE meal_item ADD (write_key VARCHAR2(36));
+
+CREATE UNIQUE INDEX uk_meal_item_write_key ON meal_item(write_key);
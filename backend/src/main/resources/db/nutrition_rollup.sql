@@ -0,0 +1,23 @@
+-- ==========================
+-- 고객별 일/주(ISO, 월요일 시작)/월 섭취 칼로리 롤업
+-- 파일명: nutrition_rollup.sql
+-- 식단 저장 트랜잭션에서 증분 갱신되며, 최초 도입 시(또는 meal_item 백필 완료 후)
+-- nutrition.rollup.rebuild-on-startup=true 로 한 번 기동해 원본에서 재구성하세요.
+-- ==========================
+
+CREATE SEQUENCE nutrition_rollup_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE nutrition_rollup (
+    idx NUMBER PRIMARY KEY,
+    customer_id NUMBER NOT NULL,
+    grain VARCHAR2(5) NOT NULL, -- DAY / WEEK / MONTH
+    bucket_start DATE NOT NULL,
+    calories_m NUMBER(12) NOT NULL,
+    calories_l NUMBER(12) NOT NULL,
+    calories_d NUMBER(12) NOT NULL,
+    item_count NUMBER(10) NOT NULL,
+    days_logged NUMBER(5) NOT NULL,
+    days_on_target NUMBER(5) NOT NULL,
+    CONSTRAINT uk_nutrition_rollup UNIQUE (customer_id, grain, bucket_start),
+    FOREIGN KEY (customer_id) REFERENCES customers(idx) ON DELETE CASCADE
+);
@@ -0,0 +1,3 @@
+-- 랭킹 조회용 인덱스 (고객별 최신 body / goal 을 idx 순으로 찾을 때 사용)
+CREATE INDEX idx_body_customer_idx ON body(customer_id, idx);
+CREATE INDEX idx_goal_customer_idx ON goal(customer_id, idx);
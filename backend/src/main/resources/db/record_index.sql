@@ -0,0 +1,2 @@
+-- 식단 기간 조회용 인덱스 (고객별 record_date 범위 스캔 후 날짜별 GROUP BY)
+CREATE INDEX idx_record_customer_date ON record(customer_id, record_date);
@@ -0,0 +1,60 @@
+-- ==========================
+-- 식단 동시 기록 대비: RECORD 하루 1행 보장 + 버전 컬럼
+-- 파일명: record_upsert.sql
+-- 유니크 인덱스를 만들기 전에 동시 기록으로 생긴 같은 날 중복 행을 가장 작은 idx 로 합칩니다.
+-- ==========================
+
+-- 1. 버전 컬럼 (JPA 엔티티 수정의 낙관적 락용. 식단 MERGE 는 합계를 DB 에서 원자적으로 증가시키며 버전은 올리기만 함)
+ALTER TABLE record ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
+
+-- 2. 같은 (customer_id, record_date) 중복 행 합치기
+-- meal_details 가 남은 (meal_item 으로 백필되지 않은) 행이 중복 그룹에 있으면 JSON 항목이 사라지므로 중단합니다.
+-- MealItemBackfillJob 으로 백필을 끝낸 뒤 다시 실행하세요.
+DECLARE
+    v_pending NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_pending
+      FROM record r
+     WHERE r.meal_details IS NOT NULL
+       AND EXISTS (SELECT 1 FROM record d
+                    WHERE d.customer_id = r.customer_id
+                      AND d.record_date = r.record_date
+                      AND d.idx <> r.idx);
+    IF v_pending > 0 THEN
+        RAISE_APPLICATION_ERROR(-20001,
+            'meal_details 백필 전인 중복 RECORD 행 ' || v_pending || '개: 백필 후 다시 실행하세요.');
+    END IF;
+END;
+/
+
+-- 칼로리는 합치고, 목표는 값이 있는 행 중 가장 최근(idx 가 큰) 값을 유지
+MERGE INTO record k
+USING (
+    SELECT MIN(idx) AS keep_idx,
+           SUM(NVL(caloriesm, 0)) AS m, SUM(NVL(caloriesl, 0)) AS l, SUM(NVL(caloriesd, 0)) AS d,
+           MAX(target_weight) KEEP (DENSE_RANK LAST ORDER BY NVL2(target_weight, 1, 0), idx) AS tw,
+           MAX(target_calories) KEEP (DENSE_RANK LAST ORDER BY NVL2(target_calories, 1, 0), idx) AS tc
+      FROM record
+     GROUP BY customer_id, record_date
+    HAVING COUNT(*) > 1
+) s
+   ON (k.idx = s.keep_idx)
+ WHEN MATCHED THEN UPDATE SET k.caloriesm = s.m, k.caloriesl = s.l, k.caloriesd = s.d,
+                              k.target_weight = s.tw, k.target_calories = s.tc;
+
+UPDATE meal_item mi
+   SET mi.record_id = (
+        SELECT MIN(r2.idx) FROM record r1
+          JOIN record r2 ON r2.customer_id = r1.customer_id AND r2.record_date = r1.record_date
+         WHERE r1.idx = mi.record_id)
+ WHERE mi.record_id NOT IN (SELECT MIN(idx) FROM record GROUP BY customer_id, record_date);
+
+-- 위 확인을 통과했으므로 meal_details 가 남은 행은 없지만, 그래도 백필 전 행은 지우지 않음
+DELETE FROM record
+ WHERE idx NOT IN (SELECT MIN(idx) FROM record GROUP BY customer_id, record_date)
+   AND meal_details IS NULL;
+
+-- 3. 하루 1행 유니크 (MERGE 동시 insert 충돌 감지)
+CREATE UNIQUE INDEX uk_record_customer_date ON record(customer_id, record_date);
+
+COMMIT;
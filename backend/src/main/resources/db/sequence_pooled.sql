@@ -0,0 +1,31 @@
+-- ==========================
+-- 시퀀스 pooled 할당 전환 (allocationSize = 50)
+-- 파일명: sequence_pooled.sql
+-- 엔티티의 allocationSize 와 시퀀스의 INCREMENT BY 값이 반드시 같아야 합니다.
+-- ddl-auto: update 가 새 시퀀스를 1부터 만들어 기존 idx 와 충돌하지 않도록,
+-- 애플리케이션 배포 전에 먼저 실행하세요.
+-- ==========================
+
+-- 1. 기존 시퀀스 증가폭 변경
+ALTER SEQUENCE customers_seq INCREMENT BY 50;
+ALTER SEQUENCE body_seq INCREMENT BY 50;
+ALTER SEQUENCE goal_seq INCREMENT BY 50;
+ALTER SEQUENCE blk_tok_seq INCREMENT BY 50;
+
+-- 2. IDENTITY 를 쓰던 테이블용 시퀀스 생성 (현재 최대 idx 이후부터 시작)
+DECLARE
+    v_start NUMBER;
+BEGIN
+    SELECT NVL(MAX(idx), 0) + 50 INTO v_start FROM record;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE record_seq START WITH ' || v_start || ' INCREMENT BY 50';
+
+    SELECT NVL(MAX(idx), 0) + 50 INTO v_start FROM recovery;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE recovery_seq START WITH ' || v_start || ' INCREMENT BY 50';
+
+    SELECT NVL(MAX(idx), 0) + 50 INTO v_start FROM favorite_food_info;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE favorite_food_info_seq START WITH ' || v_start || ' INCREMENT BY 50';
+END;
+/
+
+-- 확인
+SELECT sequence_name, increment_by, last_number FROM user_sequences;
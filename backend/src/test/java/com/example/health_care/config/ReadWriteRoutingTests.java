@@ -0,0 +1,129 @@
+package com.example.health_care.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션 라우팅: 서로 다른 H2 메모리 DB 두 개를 primary / replica 로 두고
+ * 각 DB 의 NODE 테이블 값으로 실제로 어느 쪽에서 읽었는지 확인합니다.
+ */
+class ReadWriteRoutingTests {
+
+	private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+	private DataSource primary;
+	private SwitchableDataSource replica;
+
+	static class SwitchableDataSource extends DelegatingDataSource {
+		volatile boolean down;
+
+		SwitchableDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("replica down");
+			}
+			return super.getConnection();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		primary = database("routing-primary", "primary");
+		replica = new SwitchableDataSource(database("routing-replica", "replica"));
+	}
+
+	private static DataSource database(String name, String node) {
+		DataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + ";MODE=Oracle;DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("DROP TABLE IF EXISTS node");
+		jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+		jdbc.update("INSERT INTO node VALUES (?)", node);
+		jdbc.execute("DROP TABLE IF EXISTS replica_lag");
+		jdbc.execute("CREATE TABLE replica_lag (seconds NUMBER)");
+		jdbc.update("INSERT INTO replica_lag VALUES (0)");
+		return dataSource;
+	}
+
+	private ReplicaLagMonitor monitor(String lagQuery) {
+		return new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(5), new SimpleMeterRegistry());
+	}
+
+	private static String readNode(DataSource routing, boolean readOnly) {
+		TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(routing));
+		tx.setReadOnly(readOnly);
+		return tx.execute(status -> new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class));
+	}
+
+	private DataSource routing(ReplicaLagMonitor monitor) {
+		return new ReadWriteRoutingConfig().dataSource(primary, replica, monitor, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+		ReplicaLagMonitor monitor = monitor(LAG_QUERY);
+		monitor.check();
+		DataSource routing = routing(monitor);
+
+		assertThat(monitor.isUsable()).isTrue();
+		assertThat(readNode(routing, true)).isEqualTo("replica");
+		assertThat(readNode(routing, false)).isEqualTo("primary");
+	}
+
+	@Test
+	void replicaIsNotUsedBeforeFirstCheck() {
+		assertThat(readNode(routing(monitor(LAG_QUERY)), true)).isEqualTo("primary");
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimaryUntilItCatchesUp() {
+		ReplicaLagMonitor monitor = monitor(LAG_QUERY);
+		DataSource routing = routing(monitor);
+		JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+
+		replicaJdbc.update("UPDATE replica_lag SET seconds = 30");
+		monitor.check();
+		assertThat(monitor.isUsable()).isFalse();
+		assertThat(readNode(routing, true)).isEqualTo("primary");
+
+		replicaJdbc.update("UPDATE replica_lag SET seconds = 1");
+		monitor.check();
+		assertThat(readNode(routing, true)).isEqualTo("replica");
+	}
+
+	@Test
+	void unreachableReplicaFallsBackWithoutWaitingForNextCheck() {
+		ReplicaLagMonitor monitor = monitor("");
+		monitor.check();
+		DataSource routing = routing(monitor);
+
+		replica.down = true;
+		assertThat(readNode(routing, true)).isEqualTo("primary");
+		assertThat(monitor.isUsable()).isFalse();
+
+		monitor.check();
+		assertThat(monitor.isUsable()).isFalse();
+		replica.down = false;
+		monitor.check();
+		assertThat(readNode(routing, true)).isEqualTo("replica");
+	}
+}
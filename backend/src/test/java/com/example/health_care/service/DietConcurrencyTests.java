@@ -0,0 +1,106 @@
+package com.example.health_care.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.health_care.dto.DietRecordDTO;
+import com.example.health_care.dto.DietRequest;
+import com.example.health_care.entity.CustomersEntity;
+import com.example.health_care.entity.Gender;
+import com.example.health_care.repository.CustomersRepository;
+import com.example.health_care.repository.MealItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 같은 고객/같은 날짜에 여러 스레드가 동시에 식단을 기록해도 칼로리가 유실되지 않는지 검증.
+ * MERGE 문법을 그대로 쓰도록 H2 를 Oracle 호환 모드로 띄웁니다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:diet-concurrency;MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000;IGNORE_UNKNOWN_SETTINGS=TRUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ DietService.class, NutritionRollupService.class, FavoriteUsageCounter.class, DietConcurrencyTests.TestConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 실제 트랜잭션으로 커밋
+class DietConcurrencyTests {
+
+	private static final int THREADS = 16;
+	private static final int FOODS_PER_THREAD = 25;
+	private static final long CALORIES = 10L;
+
+	@TestConfiguration
+	static class TestConfig {
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+	}
+
+	@Autowired
+	DietService dietService;
+	@Autowired
+	CustomersRepository customersRepository;
+	@Autowired
+	MealItemRepository mealItemRepository;
+
+	@Test
+	void concurrentLoggingOnSameDayLosesNothing() throws Exception {
+		String userId = "concurrent@test.com";
+		customersRepository.save(CustomersEntity.builder()
+				.id(userId).password("x").weight(70.0).age(30).gender(Gender.M).height(175.0)
+				.build());
+		String today = LocalDate.now().toString();
+		String[] types = { "morning", "lunch", "dinner" };
+
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int thread = t;
+			futures.add(pool.submit(() -> {
+				start.await();
+				for (int i = 0; i < FOODS_PER_THREAD; i++) {
+					dietService.saveDietRecord(userId, DietRequest.builder()
+							.date(today)
+							.type(types[(thread + i) % types.length])
+							.food("food-" + thread + "-" + i)
+							.calories(CALORIES)
+							.build());
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> f : futures) {
+			f.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+
+		DietRecordDTO record = dietService.getDietRecord(userId, today);
+		long expected = THREADS * FOODS_PER_THREAD * CALORIES;
+		assertThat(record.getCaloriesM() + record.getCaloriesL() + record.getCaloriesD()).isEqualTo(expected);
+		assertThat(record.getMealDetails().values().stream().mapToInt(List::size).sum())
+				.isEqualTo(THREADS * FOODS_PER_THREAD);
+		assertThat(mealItemRepository.findByRecord_IdxOrderByLoggedAtAscIdxAsc(record.getIdx()))
+				.hasSize(THREADS * FOODS_PER_THREAD);
+	}
+}
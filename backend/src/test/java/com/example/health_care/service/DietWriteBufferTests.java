@@ -0,0 +1,119 @@
+package com.example.health_care.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.health_care.config.JsonCodecs;
+import com.example.health_care.entity.CustomersEntity;
+import com.example.health_care.entity.Gender;
+import com.example.health_care.entity.MealType;
+import com.example.health_care.repository.CustomersRepository;
+import com.example.health_care.repository.MealItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * ACK 되지 않은 ADD 가 남은 저널로 재기동했을 때
+ * 이미 커밋된 항목(writeKey)은 다시 저장하지 않고, 저장할 수 없는 항목은 dead-letter 로 옮긴 뒤 ACK 하는지 검증.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:diet-write-buffer;MODE=Oracle;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ DietService.class, NutritionRollupService.class, FavoriteUsageCounter.class, DietWriteBufferTests.TestConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 버퍼가 실제 트랜잭션으로 커밋
+class DietWriteBufferTests {
+
+	@TestConfiguration
+	static class TestConfig {
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper().findAndRegisterModules();
+		}
+	}
+
+	@Autowired
+	DietService dietService;
+	@Autowired
+	CustomersRepository customersRepository;
+	@Autowired
+	MealItemRepository mealItemRepository;
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void replayDedupesCommittedEntriesAndDeadLettersUnsavable() throws Exception {
+		String userId = "journal@test.com";
+		customersRepository.save(CustomersEntity.builder()
+				.id(userId).password("x").weight(70.0).age(30).gender(Gender.M).height(175.0)
+				.build());
+		LocalDate date = LocalDate.now();
+		MealEntry committed = entry("k-committed");
+		// 커밋은 됐지만 ACK 전에 죽은 항목
+		dietService.saveMeals(userId, date, List.of(committed));
+
+		JsonCodecs codecs = new JsonCodecs(objectMapper);
+		ObjectWriter writer = codecs.writer(DietWriteBuffer.JournalLine.class);
+		List<String> lines = new ArrayList<>();
+		lines.add(writer.writeValueAsString(new DietWriteBuffer.JournalLine("ADD", 1L, userId, date, committed, null)));
+		lines.add(writer.writeValueAsString(new DietWriteBuffer.JournalLine("ADD", 2L, userId, date, entry("k-new"), null)));
+		lines.add(writer.writeValueAsString(new DietWriteBuffer.JournalLine("ADD", 3L, userId, date, entry("k-acked"), null)));
+		lines.add(writer.writeValueAsString(new DietWriteBuffer.JournalLine("ACK", null, null, null, null, List.of(3L))));
+		lines.add(writer.writeValueAsString(
+				new DietWriteBuffer.JournalLine("ADD", 4L, "ghost@test.com", date, entry("k-ghost"), null)));
+		Path journal = dir.resolve("journal.log");
+		Path deadLetter = dir.resolve("dead-letter.log");
+		Files.write(journal, lines, StandardCharsets.UTF_8);
+
+		DietWriteBuffer buffer = restart(codecs, journal, deadLetter);
+		assertThat(buffer.pending(userId)).containsOnlyKeys(date);
+		buffer.flushDue();
+		assertThat(buffer.pending(userId)).isEmpty();
+		buffer.destroy();
+
+		List<String> keys = List.of("k-committed", "k-new", "k-acked", "k-ghost");
+		assertThat(mealItemRepository.findWriteKeys(keys)).containsExactlyInAnyOrder("k-committed", "k-new");
+		assertThat(Files.readAllLines(deadLetter)).hasSize(1).first().asString().contains("k-ghost");
+		assertThat(dietService.getDietRecord(userId, date.toString()).getCaloriesL()).isEqualTo(20L);
+
+		// 모두 ACK 됐으므로 다시 기동해도 재처리할 항목이 없음
+		buffer = restart(codecs, journal, deadLetter);
+		assertThat(buffer.pending(userId)).isEmpty();
+		buffer.flushDue();
+		buffer.destroy();
+		assertThat(mealItemRepository.findWriteKeys(keys)).containsExactlyInAnyOrder("k-committed", "k-new");
+		assertThat(Files.readAllLines(deadLetter)).hasSize(1);
+	}
+
+	private DietWriteBuffer restart(JsonCodecs codecs, Path journal, Path deadLetter) throws Exception {
+		return new DietWriteBuffer(dietService, codecs, journal.toString(), 0L, 20, true, 1048576L,
+				deadLetter.toString(), 60000L);
+	}
+
+	private static MealEntry entry(String writeKey) {
+		return new MealEntry(MealType.LUNCH, "food-" + writeKey, 10L, LocalDateTime.now(), writeKey);
+	}
+}
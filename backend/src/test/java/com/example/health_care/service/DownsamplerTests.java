@@ -0,0 +1,39 @@
+package com.example.health_care.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class DownsamplerTests {
+
+	@Test
+	void keepsEndpointsAndSpikeWithinThreshold() {
+		int n = 10_000;
+		long[] x = new long[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = i * 86_400_000L;
+			y[i] = 70 + Math.sin(i / 50.0);
+		}
+		y[4321] = 95; // 튀는 값은 다운샘플링 후에도 남아야 함
+
+		int[] selected = Downsampler.lttb(x, y, n, 300);
+
+		assertThat(selected).hasSize(300);
+		assertThat(selected[0]).isZero();
+		assertThat(selected[299]).isEqualTo(n - 1);
+		assertThat(selected).contains(4321);
+		assertThat(selected).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	void returnsAllPointsWhenUnderThreshold() {
+		long[] x = { 1, 2, 3, 4 };
+		double[] y = { 1, 2, 3, 4 };
+
+		assertThat(Downsampler.lttb(x, y, 4, 300)).containsExactly(0, 1, 2, 3);
+		assertThat(Arrays.stream(Downsampler.lttb(x, y, 0, 300)).count()).isZero();
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.health_care.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.service.LeaderboardIndex.OrderStatisticTree;
+
+class OrderStatisticTreeTests {
+
+	@Test
+	void matchesSortedListAfterRandomInsertsAndDeletes() {
+		OrderStatisticTree tree = new OrderStatisticTree();
+		List<long[]> expected = new ArrayList<>();
+		Random random = new Random(42);
+
+		for (long idx = 1; idx <= 2000; idx++) {
+			long score = random.nextInt(100);
+			tree.insert(score, idx);
+			expected.add(new long[] { score, idx });
+		}
+		for (int i = 0; i < 500; i++) {
+			long[] removed = expected.remove(random.nextInt(expected.size()));
+			tree.delete(removed[0], removed[1]);
+		}
+		// score 내림차순, idx 오름차순
+		expected.sort(Comparator.<long[]>comparingLong(e -> -e[0]).thenComparingLong(e -> e[1]));
+
+		assertThat(tree.size()).isEqualTo(expected.size());
+		assertThat(tree.range(0, expected.size()))
+				.containsExactlyElementsOf(expected.stream().map(e -> e[1]).toList());
+
+		for (int position = 0; position < expected.size(); position += 37) {
+			long[] e = expected.get(position);
+			assertThat(tree.countBefore(e[0], e[1])).isEqualTo(position);
+			assertThat(tree.countUpTo(e[0], e[1])).isEqualTo(position + 1);
+			assertThat(tree.range(position, 3))
+					.containsExactlyElementsOf(expected.subList(position, Math.min(position + 3, expected.size()))
+							.stream().map(x -> x[1]).toList());
+		}
+	}
+}
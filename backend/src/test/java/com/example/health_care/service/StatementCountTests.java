@@ -0,0 +1,304 @@
+package com.example.health_care.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.health_care.dto.BodyRequest;
+import com.example.health_care.dto.DietBatchResultDTO;
+import com.example.health_care.dto.DietRangeDTO;
+import com.example.health_care.dto.DietRequest;
+import com.example.health_care.dto.FavoriteFoodInfoRequest;
+import com.example.health_care.dto.FavoriteFoodInfoResponse;
+import com.example.health_care.dto.RecordRequest;
+import com.example.health_care.dto.RecoveryDTO.SetSecurityQuestionsRequest;
+import com.example.health_care.dto.SignupRequest;
+import com.example.health_care.dto.UpdateAccountRequest;
+import com.example.health_care.entity.Gender;
+import com.example.health_care.entity.RecoveryQuestionCode;
+import com.example.health_care.security.JwtTokenProvider;
+import com.example.health_care.security.PasswordHasher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 서비스 쓰기 메서드별 JDBC 문장 수 검증 (H2 내장 DB, 식단 MERGE 문법을 위해 Oracle 호환 모드).
+ * pooled 시퀀스 + 배치 insert 로 시퀀스 조회/개별 insert 왕복이 사라졌는지 확인합니다.
+ * 시퀀스 블록을 먼저 할당받도록 같은 메서드를 먼저 실행한 뒤 다음 호출을 셉니다.
+ * pooled 최적화기는 첫 블록을 잡을 때 시퀀스를 두 번 읽으므로 (처음 값 = 블록 하한, 다음 값 = 상한),
+ * 호출당 insert 가 테이블마다 1건인 메서드는 {@link #warmUp(Runnable)} 로 두 번 실행해 둡니다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:statement-count;MODE=Oracle;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ CustomersService.class, DietService.class, RecordService.class, FavoriteFoodInfoService.class,
+		TokenBlacklistService.class, RecoveryService.class, NutritionRollupService.class, FavoriteUsageCounter.class,
+		TokenTool.class, JwtTokenProvider.class,
+		StatementCountTests.TestConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스 트랜잭션이 실제로 커밋(flush)되도록
+class StatementCountTests {
+
+	@TestConfiguration
+	static class TestConfig {
+		@Bean
+		PasswordHasher passwordHasher() {
+			return new PasswordHasher(new SimpleMeterRegistry(), 2, 16, 5000, 4, 0);
+		}
+
+		@Bean
+		SimpleMeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+	}
+
+	private static int seq = 0;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+	@Autowired
+	CustomersService customersService;
+	@Autowired
+	DietService dietService;
+	@Autowired
+	RecordService recordService;
+	@Autowired
+	FavoriteFoodInfoService favoriteFoodInfoService;
+	@Autowired
+	TokenBlacklistService tokenBlacklistService;
+	@Autowired
+	RecoveryService recoveryService;
+
+	private String userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = "user" + (++seq) + "@test.com";
+		customersService.signup(signup(userId));
+	}
+
+	@Test
+	void signup() {
+		// existsById 1 + customers insert 1 + body insert 1
+		long count = countStatements(() -> customersService.signup(signup("new" + (++seq) + "@test.com")));
+		assertThat(count).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	void saveBodyInfo() {
+		BodyRequest req = new BodyRequest(60.0, 1800, 70.0, 175.0, 30, Gender.M, null);
+		customersService.saveBodyInfo(userId, req);
+
+		// 고객 조회(2차 캐시 적중 시 0) + body insert 1
+		assertThat(countStatements(() -> customersService.saveBodyInfo(userId, req))).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void updateProfileAndSaveGoal() {
+		UpdateAccountRequest req = new UpdateAccountRequest();
+		req.setId(userId);
+		req.setWeight(70.0);
+		req.setHeight(175.0);
+		req.setAge(30);
+		req.setGender(Gender.M);
+		req.setTargetWeight(65.0);
+		req.setTargetCalories(2000);
+		// goal/body/record 가 호출당 1건씩이라 두 번 실행해야 세 시퀀스 모두 첫 블록 조회(2회)가 끝남
+		warmUp(() -> customersService.updateProfileAndSaveGoal(userId, req));
+
+		// 고객 조회 1 + goal/body/record insert 3 + customers version update 1 (시퀀스는 블록 안에서 할당)
+		assertThat(countStatements(() -> customersService.updateProfileAndSaveGoal(userId, req)))
+				.isLessThanOrEqualTo(5);
+	}
+
+	@Test
+	void saveDietRecord() {
+		DietRequest req = DietRequest.builder()
+				.date(LocalDate.now().toString())
+				.type("lunch")
+				.food("김밥")
+				.calories(300L)
+				.build();
+		dietService.saveDietRecord(userId, req);
+
+		// 고객 조회 1 + record MERGE 1 + record 합계 조회 1 + meal_item insert 1 (meal_details LOB 읽기/쓰기 없음)
+		// + 롤업: 최신 목표 1 + 일/주/월 MERGE 1 + 하루 합계 조회 1 (기록일 수 변화 없으면 update 생략)
+		assertThat(countStatements(() -> dietService.saveDietRecord(userId, req))).isLessThanOrEqualTo(7);
+	}
+
+	@Test
+	void saveDietBatch() {
+		String today = LocalDate.now().toString();
+		String yesterday = LocalDate.now().minusDays(1).toString();
+		List<DietRequest> items = List.of(
+				diet(today, "lunch", "밥", 300L),
+				diet(today, "lunch", "김치찌개", 250L),
+				diet(today, "lunch", "계란말이", 150L),
+				diet(today, "dinner", "샐러드", 120L),
+				diet(yesterday, "morning", "토스트", 200L));
+		dietService.saveDietBatch(userId, items);
+
+		// 고객 조회 1 + 날짜마다 (record MERGE 1 + 합계 조회 1 + 롤업 3) + meal_item 배치 insert 1
+		DietBatchResultDTO[] result = new DietBatchResultDTO[1];
+		assertThat(countStatements(() -> result[0] = dietService.saveDietBatch(userId, items))).isLessThanOrEqualTo(12);
+
+		assertThat(result[0].getSaved()).isEqualTo(5);
+		assertThat(result[0].getDays()).extracting(DietRangeDTO.Day::getDate)
+				.containsExactly(LocalDate.now().minusDays(1), LocalDate.now());
+		DietRangeDTO.Day todayTotals = result[0].getDays().get(1);
+		assertThat(todayTotals.getLunch()).isEqualTo(1400L); // 두 번 저장
+		assertThat(todayTotals.getDinner()).isEqualTo(240L);
+		assertThat(todayTotals.getTotal()).isEqualTo(1640L);
+	}
+
+	@Test
+	void saveRecordInfo() {
+		RecordRequest req = RecordRequest.builder()
+				.caloriesM(300L).caloriesL(600L).caloriesD(500L)
+				.targetWeight(65.0).targetCalories(2000)
+				.build();
+		recordService.saveRecordInfo(userId, req);
+
+		// 고객 조회 1 + 최신 목표 조회 1 + record insert 1
+		// + 롤업: 일/주/월 MERGE 1 + 하루 합계 조회 1 (최신 목표는 쿼리 캐시, 기록일 수 변화 없으면 update 생략)
+		assertThat(countStatements(() -> recordService.saveRecordInfo(userId, req))).isLessThanOrEqualTo(6);
+	}
+
+	@Test
+	void addFavorite() {
+		favoriteFoodInfoService.addFavorite(userId, FavoriteFoodInfoRequest.builder().food("사과").calories(50L).build());
+
+		// 고객 조회(2차 캐시 적중 시 0) + 링 버퍼: 고객 행 잠금 1 + 가장 오래된 행 삭제 1 + insert 1 + 목록 다시 읽기 1
+		assertThat(countStatements(() -> favoriteFoodInfoService.addFavorite(userId,
+				FavoriteFoodInfoRequest.builder().food("바나나").calories(90L).build())))
+				.isLessThanOrEqualTo(4);
+
+		// 목록은 캐시에서
+		assertThat(countStatements(() -> favoriteFoodInfoService.getFavorites(userId))).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void favoritesKeepNewestFifty() {
+		for (int i = 0; i < FavoriteFoodInfoService.CAPACITY + 5; i++) {
+			favoriteFoodInfoService.addFavorite(userId,
+					FavoriteFoodInfoRequest.builder().food("음식" + i).calories(100L + i).build());
+		}
+
+		List<FavoriteFoodInfoResponse> favorites = favoriteFoodInfoService.getFavorites(userId);
+		assertThat(favorites).hasSize(FavoriteFoodInfoService.CAPACITY);
+		assertThat(favorites).extracting(FavoriteFoodInfoResponse::getFood)
+				.contains("음식54", "음식5")
+				.doesNotContain("음식0", "음식4");
+	}
+
+	@Test
+	void favoriteUsageCountsWithoutPerWriteStatements() {
+		favoriteFoodInfoService.addFavorite(userId, FavoriteFoodInfoRequest.builder().food("김밥").calories(300L).build());
+		favoriteFoodInfoService.addFavorite(userId, FavoriteFoodInfoRequest.builder().food("라면").calories(500L).build());
+		DietRequest req = DietRequest.builder()
+				.date(LocalDate.now().toString())
+				.type("lunch")
+				.food("김밥")
+				.calories(300L)
+				.build();
+		dietService.saveDietRecord(userId, req);
+		dietService.saveDietRecord(userId, req);
+
+		// 메모리 카운터만으로 자주 먹은 순
+		List<FavoriteFoodInfoResponse> mostUsed = favoriteFoodInfoService.getFavorites(userId, true);
+		assertThat(mostUsed).extracting(FavoriteFoodInfoResponse::getFood).startsWith("김밥");
+		assertThat(mostUsed.get(0).getCount()).isEqualTo(2);
+
+		// 두 주기 flush 후에도 같은 값 (DB 반영 + 캐시 무효화)
+		favoriteFoodInfoService.flushUsage();
+		favoriteFoodInfoService.flushUsage();
+		assertThat(favoriteFoodInfoService.getFavorites(userId, true).get(0).getCount()).isEqualTo(2);
+	}
+
+	@Test
+	void blacklist() {
+		int[] n = { 0 };
+		warmUp(() -> tokenBlacklistService.blacklist("warmup-" + (++n[0]) + "-" + userId, userId,
+				LocalDateTime.now().plusDays(1), "TEST"));
+
+		// 중복 체크 1 + insert 1 (시퀀스는 블록 안에서 할당)
+		assertThat(countStatements(() -> tokenBlacklistService.blacklist("token-" + userId, userId,
+				LocalDateTime.now().plusDays(1), "TEST")))
+				.isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void setQuestions() {
+		customersService.signup(signup("warmup" + (++seq) + "@test.com"));
+		recoveryService.setQuestions("warmup" + seq + "@test.com", questions());
+
+		// 고객 조회(2차 캐시 적중 시 0) + 기존 답 조회 1 + recovery insert 3건이 배치 1개
+		assertThat(countStatements(() -> recoveryService.setQuestions(userId, questions()))).isLessThanOrEqualTo(3);
+	}
+
+	private static void warmUp(Runnable action) {
+		action.run();
+		action.run();
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		action.run();
+		return stats.getPrepareStatementCount();
+	}
+
+	private static DietRequest diet(String date, String type, String food, long calories) {
+		return DietRequest.builder().date(date).type(type).food(food).calories(calories).build();
+	}
+
+	private static SignupRequest signup(String id) {
+		return SignupRequest.builder()
+				.id(id)
+				.password("password1234")
+				.weight(70.0)
+				.age(30)
+				.gender(Gender.M)
+				.height(175.0)
+				.build();
+	}
+
+	private static List<SetSecurityQuestionsRequest.Item> questions() {
+		return List.of(
+				question(RecoveryQuestionCode.BIRTHPLACE, "서울"),
+				question(RecoveryQuestionCode.PET_NAME, "초코"),
+				question(RecoveryQuestionCode.MOTHER_NAME, "김영희"));
+	}
+
+	private static SetSecurityQuestionsRequest.Item question(RecoveryQuestionCode code, String answer) {
+		SetSecurityQuestionsRequest.Item item = new SetSecurityQuestionsRequest.Item();
+		item.setCode(code);
+		item.setAnswer(answer);
+		item.setConfirm(answer);
+		return item;
+	}
+}
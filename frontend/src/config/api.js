@@ -75,12 +75,27 @@ function normalizeAuthHeader(raw) {
   return /^(Bearer|Basic|Token)\s+/i.test(v) ? v : `Bearer ${v}`
 }
 
+// GET 응답 ETag 캐시 (url -> { etag, text }): 다음 요청에 If-None-Match 를 보내고 304 면 저장한 본문을 사용
+// 응답이 사용자별이라 토큰이 바뀌면 비움
+const ETAG_CACHE_MAX = 50
+const etagCache = new Map()
+
 export function setAuthToken(t) {
   CURRENT_TOKEN = normalizeAuthHeader(t)
+  etagCache.clear()
 }
 
 export function clearAuthToken() {
   CURRENT_TOKEN = null
+  etagCache.clear()
+}
+
+function rememberEtag(url, etag, text) {
+  etagCache.delete(url)
+  etagCache.set(url, { etag, text })
+  if (etagCache.size > ETAG_CACHE_MAX) {
+    etagCache.delete(etagCache.keys().next().value)
+  }
 }
 
 function withAuthHeaders(customHeaders = {}) {
@@ -96,15 +111,26 @@ export async function apiGet(path, init) {
   const ctrl = new AbortController()
   const to = setTimeout(() => ctrl.abort(), 20000)
   try {
+    const cached = etagCache.get(url)
+    const headers = withAuthHeaders(init?.headers)
+    if (cached) headers['If-None-Match'] = cached.etag
     const res = await fetch(url, {
       ...(init || {}),
       method: 'GET',
       signal: ctrl.signal,
-      headers: withAuthHeaders(init?.headers),
+      headers,
     })
-    const text = await res.text()
+    let text
+    if (res.status === 304 && cached) {
+      text = cached.text
+    } else {
+      text = await res.text()
+      const etag = res.headers.get('ETag')
+      if (res.ok && etag) rememberEtag(url, etag, text)
+      else etagCache.delete(url)
+    }
     if (__DEV__) console.log('GET', url, '->', res.status, text)
-    if (!res.ok) throw new Error(`HTTP ${res.status} ${text}`)
+    if (!res.ok && res.status !== 304) throw new Error(`HTTP ${res.status} ${text}`)
     try { return JSON.parse(text) } catch { return text }
   } finally {
     clearTimeout(to)
@@ -19,9 +19,9 @@ import {
 import { CameraView, useCameraPermissions } from "expo-camera";
 import * as ImageManipulator from "expo-image-manipulator";
 import { analyzeFoodImage } from "../api/gemini";
-import { API_BASE_DEBUG } from "../config/api";
+import { API_BASE_DEBUG, apiPost } from "../config/api";
 import { addCalories } from "../utils/calorieStorage";
-import { useNavigation } from "@react-navigation/native";
+import { useNavigation, useRoute } from "@react-navigation/native";
 
 export default function CameraScreen() {
   const cameraRef = useRef(null);
@@ -33,6 +33,7 @@ export default function CameraScreen() {
   const insets = useSafeAreaInsets();
   const scale = useRef(new Animated.Value(1)).current;
   const nav = useNavigation();
+  const { type: mealType, dateKey } = useRoute().params || {};
 
   // 🔍 Zoom & Focus states
   const [zoom, setZoom] = useState(0); // 0 ~ 1
@@ -79,7 +80,7 @@ export default function CameraScreen() {
   const incZoom = (step = 0.1) => setZoom((z) => clamp01(z + step));
   const decZoom = (step = 0.1) => setZoom((z) => clamp01(z - step));
 
-  async function saveFoodStat({ dish, calories }) {
+  async function saveFoodStat({ dish, calories, items }) {
     try {
       const url =
         typeof API_BASE_DEBUG === "string" && API_BASE_DEBUG
@@ -92,6 +93,22 @@ export default function CameraScreen() {
         body: JSON.stringify({ foodName: dish, calories }),
       });
 
+      // 식단 화면에서 열었으면 사진 속 음식들을 한 번에 식단 기록 (POST /api/diet/batch)
+      if (mealType) {
+        const dishes =
+          Array.isArray(items) && items.length
+            ? items.map((it) => ({ food: it.dish || "알 수 없는 음식", calories: it.calories || 0 }))
+            : [{ food: dish, calories }];
+        const now = new Date();
+        const date =
+          dateKey ||
+          `${now.getFullYear()}-${String(now.getMonth() + 1).padStart(2, "0")}-${String(now.getDate()).padStart(2, "0")}`;
+        const timestamp = Date.now();
+        await apiPost("/api/diet/batch", {
+          items: dishes.map((d) => ({ date, type: mealType, ...d, timestamp })),
+        });
+      }
+
       await addCalories(calories);
       nav.replace("Home");
     } catch (e) {
@@ -312,7 +329,7 @@ export default function CameraScreen() {
                   </TouchableOpacity>
                   <TouchableOpacity
                     onPress={() =>
-                      saveFoodStat({ dish: food.dish, calories: food.calories })
+                      saveFoodStat({ dish: food.dish, calories: food.calories, items: food.items })
                     }
                     style={styles.primaryBtn}
                   >
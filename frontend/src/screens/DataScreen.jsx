@@ -1,4 +1,4 @@
-import React, { useEffect, useMemo, useState } from 'react'
+import React, { useEffect, useMemo, useRef, useState } from 'react'
 import { View, Text, StyleSheet, ActivityIndicator, ScrollView, Alert, Dimensions } from 'react-native'
 import { Calendar } from 'react-native-calendars'
 import { LineChart } from 'react-native-chart-kit'
@@ -34,14 +34,12 @@ export default function DataScreen() {
   // 값
   const [wToday, setWToday] = useState(null)
   const [wSel,   setWSel]   = useState(null)
-  const [kToday, setKToday] = useState(null)
-  const [kSel,   setKSel]   = useState(null)
+  const [kcalByDate, setKcalByDate] = useState({}) // { 'YYYY-MM-DD': 합계 } (기록 있는 날만)
 
   // 로딩
   const [loadingWToday, setLoadingWToday] = useState(true)
   const [loadingWSel,   setLoadingWSel]   = useState(true)
-  const [loadingKToday, setLoadingKToday] = useState(true)
-  const [loadingKSel,   setLoadingKSel]   = useState(true)
+  const [loadingK,      setLoadingK]      = useState(true)
 
   /* 오늘 몸무게: GET /body -> CustomersProfileDTO 안의 weight */
   async function fetchWeightToday() {
@@ -59,98 +57,67 @@ export default function DataScreen() {
     }
   }
 
-  /* BodyEntity 히스토리 파서: recordDate, weight 사용 */
-  const readBodyDate = e => {
-    const raw =
-      e?.recordDate ??        // ★ 백엔드 스키마
-      e?.date ??
-      e?.measuredAt ??
-      e?.day ??
-      e?.createdDate ??
-      e?.created_at ??
-      e?.regDate
-    if (!raw) return null
-    const s = String(raw)
-    return s.length >= 10 ? s.slice(0,10) : null
-  }
   const readBodyWeight = e => num(e?.weight ?? e?.kg ?? e?.bodyWeight ?? e?.value)
 
-  function pickWeightAtOrBefore(history = [], dateISO) {
-    const target = new Date(dateISO + 'T23:59:59')
-    let best = null
-    for (const it of history) {
-      const dISO = readBodyDate(it)
-      const w    = readBodyWeight(it)
-      if (!dISO || !Number.isFinite(w)) continue
-      const d = new Date(dISO + 'T00:00:00')
-      if (d <= target) {
-        if (!best || d > best.date) best = { date: d, weight: w }
-      }
-    }
-    return best?.weight
-  }
-
-  /* 선택일 몸무게: GET /body/history -> List<BodyEntity> */
+  /* 선택일 몸무게: GET /body/weight-at?date=YYYY-MM-DD -> { recordDate, weight, ... }
+     선택일 또는 그 이전 가장 최근 기록 1건을 서버에서 바로 찾음 */
   async function fetchWeightSelected(dateISO){
     try{
       setLoadingWSel(true)
-      const history = await apiGet('/body/history')
-      let w = Array.isArray(history) ? pickWeightAtOrBefore(history, dateISO) : null
+      // 그날 또는 그 이전 가장 최근 기록 1건 (없으면 404)
+      const rec = await apiGet(`/body/weight-at?date=${dateISO}`).catch(() => null)
+      let w = rec ? readBodyWeight(rec) : null
       if (w == null && dateISO === todayISO) w = wToday ?? null
       setWSel(Number.isFinite(+w) ? +w : null)
     }catch(e){
-      console.warn('GET /body/history 실패', e)
+      console.warn('GET /body/weight-at 실패', e)
       setWSel(null)
     }finally{
       setLoadingWSel(false)
     }
   }
 
-  /* 선택일/오늘 칼로리: GET /api/diet/get?date=YYYY-MM-DD
-     RecordEntity 에서 caloriesM/L/D 합산  */
-  function sumMeals(rec){
-    const m = num(rec?.caloriesM)
-    const l = num(rec?.caloriesL)
-    const d = num(rec?.caloriesD)
-    const s = [m,l,d].reduce((a,v)=> a + (Number.isFinite(v) ? v : 0), 0)
-    return Number.isFinite(s) ? Math.round(s) : null
-  }
-  async function fetchCalories(dateISO, setState, setLoading){
-    try{
-      setLoading(true)
-      const rec = await apiGet(`/api/diet/get?date=${dateISO}`)
-      let c = null
-
-      // 1) 우선 M/L/D 합산
-      if (rec) c = sumMeals(rec)
+  /* 칼로리: GET /api/diet/range?from=&to= 로 달력 한 달치 일별 합계를 한 번에 받아 둠
+     (날짜마다 /api/diet/get 을 부르지 않음). 선택일/오늘 값은 받아 둔 달에서 꺼냄 */
+  const loadedMonths = useRef(new Set())
 
-      // 2) 혹시 백엔드에서 totalCalories/kcal 같은 필드를 내려줄 때도 수용
-      if (!Number.isFinite(c)) {
-        const fallback = rec?.totalCalories ?? rec?.calories ?? rec?.kcal
-        if (Number.isFinite(+fallback)) c = Math.round(+fallback)
+  async function fetchMonth(dateISO){
+    const month = dateISO.slice(0, 7) // YYYY-MM
+    if (loadedMonths.current.has(month)) return
+    loadedMonths.current.add(month)
+    const [y, m] = month.split('-').map(Number)
+    const last = new Date(Date.UTC(y, m, 0)).getUTCDate()
+    try{
+      setLoadingK(true)
+      const res = await apiGet(`/api/diet/range?from=${month}-01&to=${month}-${String(last).padStart(2, '0')}`)
+      const totals = {}
+      for (const day of res?.days || []) {
+        if (Number.isFinite(+day?.total)) totals[iso(day.date)] = Math.round(+day.total)
       }
-
-      setState(Number.isFinite(c) ? c : null)
+      setKcalByDate(prev => ({ ...prev, ...totals }))
     }catch(e){
-      console.warn('GET /api/diet/get 실패', e)
-      setState(null)
+      console.warn('GET /api/diet/range 실패', e)
+      loadedMonths.current.delete(month) // 다음에 다시 시도
     }finally{
-      setLoading(false)
+      setLoadingK(false)
     }
   }
 
   // 최초 로드: 오늘값
   useEffect(() => {
     fetchWeightToday()
-    fetchCalories(todayISO, setKToday, setLoadingKToday)
+    fetchMonth(todayISO)
   }, [])
 
   // 선택일 변경 시
   useEffect(() => {
     fetchWeightSelected(selected)
-    fetchCalories(selected, setKSel, setLoadingKSel)
+    fetchMonth(selected)
   }, [selected, wToday])
 
+  const kToday = kcalByDate[todayISO] ?? null
+  const kSel   = kcalByDate[selected] ?? null
+
   const markedDates = useMemo(() => ({
     [selected]: { selected: true, selectedColor: '#3B82F6' },
     [todayISO]: selected === todayISO ? {} : { marked: true, dotColor: '#10B981' }
@@ -171,6 +138,7 @@ export default function DataScreen() {
 
       <Calendar
         onDayPress={(d) => setSelected(d.dateString)}
+        onMonthChange={(m) => fetchMonth(m.dateString)}
         markedDates={markedDates}
         theme={{ todayTextColor: '#10B981', selectedDayBackgroundColor: '#3B82F6', arrowColor: '#111827' }}
         style={s.calendar}
@@ -211,7 +179,7 @@ export default function DataScreen() {
       {/* 칼로리 */}
       <View style={s.card}>
         <Text style={s.cardTitle}>칼로리 (kcal)</Text>
-        {(loadingKToday || loadingKSel) ? (
+        {loadingK ? (
           <ActivityIndicator />
         ) : kcalUnavailable ? (
           <Text style={s.tip}>선택한 날짜와 오늘의 칼로리 데이터가 없습니다.</Text>
@@ -87,7 +87,7 @@ export default function DietLogScreen() {
         <View style={styles.headerActions}>
           <Pressable
             style={styles.primaryBtn}
-            onPress={() => navigation.navigate('Camera', { type })}
+            onPress={() => navigation.navigate('Camera', { type, dateKey })}
           >
             <Text style={styles.primaryBtnText}>📷</Text>
           </Pressable>
@@ -24,21 +24,17 @@ export default function DirectInputScreen() {
 
   useEffect(() => {
     (async () => {
-
+      // 로컬 캐시를 먼저 보여주고 서버 목록(서버 메모리 캐시)으로 갱신
+      const raw = await AsyncStorage.getItem(FAV_KEY);
+      if (raw) setFavs(JSON.parse(raw));
       try {
-        const remote= await apiGet('/api/favorite');
-        console.log('서버에서 받은 데이터:', remote);
+        const remote = await apiGet('/api/favorite');
         if (Array.isArray(remote)) {
           setFavs(remote);
           await AsyncStorage.setItem(FAV_KEY, JSON.stringify(remote)); // 로컬 캐싱
-        } else {
-          const raw = await AsyncStorage.getItem(FAV_KEY);
-          setFavs(raw ? JSON.parse(raw) : []);
         }
       } catch (e) {
         console.error('즐겨찾기 로드 실패', e?.message || e);
-        const raw = await AsyncStorage.getItem(FAV_KEY);
-        setFavs(raw ? JSON.parse(raw) : []);
       }
     })();
   }, []);
@@ -62,7 +58,8 @@ export default function DirectInputScreen() {
 
     try {
       const saved = await apiPost('/api/favorite', { food: food.trim(), calories: kcal }); // 서버 저장
-      const next = [saved, ...favs].slice(0, 50);
+      // 서버가 50개 초과 시 가장 오래된 항목을 교체하므로 같은 idx 는 빼고 맨 앞에 추가
+      const next = [saved, ...favs.filter(f => f?.idx !== saved?.idx)].slice(0, 50);
       await saveFavs(next);
       Alert.alert('즐겨찾기', '즐겨찾기에 저장했어요.');
     } catch (e) {
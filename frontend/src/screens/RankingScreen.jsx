@@ -37,43 +37,28 @@ export default function RankingScreen() {
       })
       .filter(Boolean)
 
+  // /ranking 은 커서 페이지 ({ content, nextCursor }), 한 번에 최대 100명이라 nextCursor 가 없을 때까지 이어서 받음
+  const PAGE_SIZE = 100
+  const MAX_PAGES = 1000
+
+  // 중간 페이지 실패 시 일부만 보여주지 않도록 오류는 load 로 넘김
   const fetchPaged = async (base) => {
     let acc = []
-    try {
-      const first = await apiGet(`${base}?page=0&size=200`)
-      if (Array.isArray(first)) return pullIds(first)
-      if (Array.isArray(first?.content)) {
-        acc = pullIds(first.content)
-        const totalPages = Number(first.totalPages ?? 1)
-        for (let p = 1; p < totalPages; p++) {
-          const pageRes = await apiGet(`${base}?page=${p}&size=200`)
-          acc = acc.concat(pullIds(pageRes?.content || []))
-        }
-        return acc
-      }
-      return pullIds(first?.data || first?.users || [])
-    } catch {
-      return []
-    }
-  }
-
-  const fetchOnce = async (path) => {
-    try {
-      const res = await apiGet(path)
-      if (Array.isArray(res)) return pullIds(res)
-      if (Array.isArray(res?.content)) return pullIds(res.content)
-      if (Array.isArray(res?.data)) return pullIds(res.data)
-      if (Array.isArray(res?.users)) return pullIds(res.users)
-      return []
-    } catch {
-      return []
+    let cursor = null
+    for (let p = 0; p < MAX_PAGES; p++) {
+      const query = cursor ? `?size=${PAGE_SIZE}&cursor=${encodeURIComponent(cursor)}` : `?size=${PAGE_SIZE}`
+      const res = await apiGet(`${base}${query}`)
+      if (Array.isArray(res)) return acc.concat(pullIds(res))
+      if (!Array.isArray(res?.content)) return acc.concat(pullIds(res?.data || res?.users || []))
+      acc = acc.concat(pullIds(res.content))
+      cursor = res.nextCursor
+      if (!cursor) break
     }
+    return acc
   }
 
   const fetchAllUsers = useCallback(async () => {
     for (const p of candidates) {
-      const list = await fetchOnce(p)
-      if (list.length) return list
       const paged = await fetchPaged(p)
       if (paged.length) return paged
     }